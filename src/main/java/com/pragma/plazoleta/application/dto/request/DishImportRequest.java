@@ -0,0 +1,12 @@
+package com.pragma.plazoleta.application.dto.request;
+
+import lombok.Data;
+
+@Data
+public class DishImportRequest {
+    private String name;
+    private int price;
+    private String description;
+    private String imageUrl;
+    private String categoryName;
+}
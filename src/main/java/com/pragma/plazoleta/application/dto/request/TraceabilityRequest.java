@@ -12,6 +12,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -27,6 +29,8 @@ public class TraceabilityRequest {
     @Email(message = "Client email must be valid")
     private String clientEmail;
     
+    private LocalDateTime date;
+
     @NotBlank(message = "Previous state is required")
     private String previousState;
     
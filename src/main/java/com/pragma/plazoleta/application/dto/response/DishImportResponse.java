@@ -0,0 +1,18 @@
+package com.pragma.plazoleta.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DishImportResponse {
+    private long line;
+    private String name;
+    private String dishId;
+    private boolean created;
+    private String error;
+}
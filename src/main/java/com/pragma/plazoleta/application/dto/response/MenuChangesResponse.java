@@ -0,0 +1,18 @@
+package com.pragma.plazoleta.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuChangesResponse {
+    private List<DishResponse> dishes;
+    private long version;
+    private boolean hasMore;
+}
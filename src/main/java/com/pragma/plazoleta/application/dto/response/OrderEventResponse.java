@@ -0,0 +1,21 @@
+package com.pragma.plazoleta.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventResponse {
+    private String type;
+    private String orderId;
+    private String restaurantId;
+    private String status;
+    private String chefId;
+    private LocalDateTime occurredAt;
+}
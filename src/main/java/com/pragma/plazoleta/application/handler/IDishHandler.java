@@ -2,15 +2,23 @@ package com.pragma.plazoleta.application.handler;
 
 import com.pragma.plazoleta.application.dto.request.DishUpdateRequest;
 import com.pragma.plazoleta.application.dto.request.DishActiveUpdateRequest;
+import com.pragma.plazoleta.application.dto.request.DishImportRequest;
 import com.pragma.plazoleta.application.dto.request.DishRequest;
+import com.pragma.plazoleta.application.dto.response.DishImportResponse;
 import com.pragma.plazoleta.application.dto.response.DishResponse;
+import com.pragma.plazoleta.application.dto.response.MenuChangesResponse;
 import com.pragma.plazoleta.application.dto.response.RestaurantMenuResponse;
 import org.springframework.data.domain.Page;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface IDishHandler {
     DishResponse createDish(DishRequest dishRequest);
+    void validateDishImport(UUID restaurantId);
+    List<DishImportResponse> importDishes(UUID restaurantId, List<Long> lines, List<DishImportRequest> rows);
     DishResponse updateDish(String dishId, DishUpdateRequest dishRequest);
     DishResponse updateDishActive(String dishId, DishActiveUpdateRequest dishRequest);
     Page<RestaurantMenuResponse> getRestaurantMenu(String restaurantId, Optional<Integer> categoryId, int page, int size);
+    MenuChangesResponse getRestaurantMenuChanges(String restaurantId, long since, int size);
 } 
\ No newline at end of file
@@ -2,23 +2,34 @@ package com.pragma.plazoleta.application.handler;
 
 import com.pragma.plazoleta.application.dto.request.OrderRequest;
 import com.pragma.plazoleta.application.dto.request.ValidationRequest;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponse;
+import com.pragma.plazoleta.application.dto.response.OrderStatusResponse;
 import com.pragma.plazoleta.application.dto.response.TraceabilityGroupedResponse;
 import com.pragma.plazoleta.application.dto.response.TraceabilityResponse;
 import com.pragma.plazoleta.application.dto.response.NotificationResponse;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface IOrderHandler {
-    OrderResponse createOrder(OrderRequest orderRequest);
+    OrderResponse createOrder(OrderRequest orderRequest, String idempotencyKey);
     Page<OrderResponse> getOrdersByStatusAndRestaurant(String status, String restaurantId, int page, int size);
+    CursorPageResponse<OrderResponse> getOrdersByStatusAndRestaurant(String status, String restaurantId, String cursor, int size);
     OrderResponse assignOrderToEmployee(String orderId);
+    Optional<OrderResponse> claimNextOrder(String restaurantId);
+    SseEmitter streamOrderEvents(String restaurantId, String lastEventId);
     NotificationResponse sendNotificationToCustomer(String orderId);
     OrderResponse updateSecurityPin(String orderId);
     OrderResponse updateOrderToDelivered(String orderId, ValidationRequest validationRequest);
     OrderResponse cancelOrder(String orderId);  
+    OrderStatusResponse getOrderStatus(String orderId);
+    DeferredResult<OrderStatusResponse> waitForOrderStatus(String orderId, String afterStatus, Duration timeout);
     List<TraceabilityGroupedResponse> getClientHistory(String clientId);
     List<TraceabilityResponse> getOrderTraceability(String orderId);
 } 
\ No newline at end of file
@@ -2,16 +2,22 @@ package com.pragma.plazoleta.application.handler.impl;
 
 import com.pragma.plazoleta.application.dto.request.DishUpdateRequest;
 import com.pragma.plazoleta.application.dto.request.DishActiveUpdateRequest;
+import com.pragma.plazoleta.application.dto.request.DishImportRequest;
 import com.pragma.plazoleta.application.dto.request.DishRequest;
+import com.pragma.plazoleta.application.dto.response.DishImportResponse;
 import com.pragma.plazoleta.application.dto.response.DishResponse;
+import com.pragma.plazoleta.application.dto.response.MenuChangesResponse;
 import com.pragma.plazoleta.application.dto.response.RestaurantMenuResponse;
 import com.pragma.plazoleta.application.handler.IDishHandler;
 import com.pragma.plazoleta.application.mapper.IDishMapper;
 import com.pragma.plazoleta.application.mapper.IRestaurantMenuMapper;
 import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DishImportRow;
 import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.MenuChanges;
 import com.pragma.plazoleta.domain.api.ICategoryServicePort;
 import com.pragma.plazoleta.domain.api.IDishServicePort;
+import com.pragma.plazoleta.domain.utils.UuidGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -19,6 +25,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -34,13 +42,31 @@ public class DishHandler implements IDishHandler {
     public DishResponse createDish(DishRequest dishRequest) {
         Dish dish = dishMapper.toDish(dishRequest);
         Integer idCategory = categoryServicePort.getByName(dishRequest.getCategoryName()).getId();
-        dish.setId(UUID.randomUUID());
+        dish.setId(UuidGenerator.timeOrdered());
         dish.setCategoryId(idCategory);
         Dish saved = dishServicePort.createDish(dish);
         
         return dishMapper.toDishResponse(saved);
     }
 
+    @Override
+    public void validateDishImport(UUID restaurantId) {
+        dishServicePort.validateDishImport(restaurantId);
+    }
+
+    @Override
+    public List<DishImportResponse> importDishes(UUID restaurantId, List<Long> lines, List<DishImportRequest> rows) {
+        List<DishImportRow> importRows = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Dish dish = dishMapper.toDish(rows.get(i));
+            dish.setId(UuidGenerator.timeOrdered());
+            importRows.add(new DishImportRow(lines.get(i), dish, rows.get(i).getCategoryName()));
+        }
+        return dishServicePort.importDishes(restaurantId, importRows).stream()
+            .map(dishMapper::toDishImportResponse)
+            .toList();
+    }
+
     @Override
     public DishResponse updateDish(String dishId, DishUpdateRequest dishRequest) {   
         Dish updated = dishServicePort.updateDish(UUID.fromString(dishId), 
@@ -68,4 +94,16 @@ public class DishHandler implements IDishHandler {
             domainPage.getTotalElements()
         );
     }
+
+    @Override
+    public MenuChangesResponse getRestaurantMenuChanges(String restaurantId, long since, int size) {
+        MenuChanges changes = dishServicePort.getMenuChanges(UUID.fromString(restaurantId), since, size);
+        return MenuChangesResponse.builder()
+            .dishes(changes.getDishes().stream()
+                .map(dishMapper::toDishResponse)
+                .toList())
+            .version(changes.getVersion())
+            .hasMore(changes.isHasMore())
+            .build();
+    }
 } 
\ No newline at end of file
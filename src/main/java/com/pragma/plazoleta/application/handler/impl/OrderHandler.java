@@ -2,7 +2,9 @@ package com.pragma.plazoleta.application.handler.impl;
 
 import com.pragma.plazoleta.application.dto.request.OrderRequest;
 import com.pragma.plazoleta.application.dto.request.ValidationRequest;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponse;
+import com.pragma.plazoleta.application.dto.response.OrderStatusResponse;
 import com.pragma.plazoleta.application.dto.response.TraceabilityGroupedResponse;
 import com.pragma.plazoleta.application.dto.response.TraceabilityResponse;
 import com.pragma.plazoleta.application.dto.response.NotificationResponse;
@@ -12,35 +14,116 @@ import com.pragma.plazoleta.application.mapper.ITraceabilityGroupedMapper;
 import com.pragma.plazoleta.application.mapper.ITraceabilityMapper;
 import com.pragma.plazoleta.application.mapper.INotificationMapper;
 import com.pragma.plazoleta.domain.api.IOrderServicePort;
+import com.pragma.plazoleta.domain.exception.OrderException;
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderCursorPage;
+import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.model.DomainPage;
 import com.pragma.plazoleta.domain.model.Traceability;
 import com.pragma.plazoleta.domain.model.TraceabilityGrouped;
 import com.pragma.plazoleta.domain.model.NotificationResult;
+import com.pragma.plazoleta.domain.spi.IIdempotencyPersistencePort;
+import com.pragma.plazoleta.domain.spi.IOrderEventStreamPort;
+import com.pragma.plazoleta.domain.spi.IOrderStatusWatchPort;
+import com.pragma.plazoleta.domain.spi.ISecurityContextPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class OrderHandler implements IOrderHandler {
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final IOrderServicePort orderServicePort;
     private final IOrderMapper orderMapper;
     private final INotificationMapper notificationMapper;
     private final ITraceabilityGroupedMapper traceabilityGroupedMapper;
     private final ITraceabilityMapper traceabilityMapper;
+    private final ISecurityContextPort securityContextPort;
+    private final IIdempotencyPersistencePort idempotencyPersistencePort;
+    private final IOrderEventStreamPort<SseEmitter> orderEventStreamPort;
+    private final IOrderStatusWatchPort orderStatusWatchPort;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public OrderResponse createOrder(OrderRequest orderRequest) {
+    public OrderResponse createOrder(OrderRequest orderRequest, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return createOrder(orderRequest);
+        }
+        UUID userId = securityContextPort.getUserIdOfUserAutenticated();
+        String requestHash = hashOrderRequest(orderRequest);
+        Optional<String> storedResponse = idempotencyPersistencePort.reserve(userId, idempotencyKey, requestHash);
+        if (storedResponse.isPresent()) {
+            return readOrderResponse(storedResponse.get());
+        }
+        OrderResponse orderResponse;
+        try {
+            orderResponse = createOrder(orderRequest);
+        } catch (RuntimeException e) {
+            idempotencyPersistencePort.release(userId, idempotencyKey);
+            throw e;
+        }
+        idempotencyPersistencePort.saveResponse(userId, idempotencyKey, requestHash, writeOrderResponse(orderResponse));
+        return orderResponse;
+    }
+
+    private OrderResponse createOrder(OrderRequest orderRequest) {
         Order order = orderMapper.toOrder(orderRequest);
         return orderMapper.toOrderResponse(orderServicePort.createOrder(order));
     }
 
+    private OrderResponse readOrderResponse(String storedResponse) {
+        try {
+            return objectMapper.readValue(storedResponse, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Hashed as Jackson serializes it, so JSON formatting and field order do not change the hash.
+     */
+    private String hashOrderRequest(OrderRequest orderRequest) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(orderRequest)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String writeOrderResponse(OrderResponse orderResponse) {
+        try {
+            return objectMapper.writeValueAsString(orderResponse);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public Page<OrderResponse> getOrdersByStatusAndRestaurant(String status, String restaurantId, int page, int size) {
         DomainPage<Order> domainPage = orderServicePort.getOrdersByStatusAndRestaurant(status, UUID.fromString(restaurantId), page, size);
@@ -54,12 +137,62 @@ public class OrderHandler implements IOrderHandler {
         );
     }
 
+    @Override
+    public CursorPageResponse<OrderResponse> getOrdersByStatusAndRestaurant(String status, String restaurantId, String cursor, int size) {
+        OrderCursorPage cursorPage = orderServicePort.getOrdersByStatusAndRestaurantAfter(
+                status, UUID.fromString(restaurantId), decodeCursor(cursor), size);
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(cursorPage.getContent().stream()
+                        .map(orderMapper::toOrderResponse)
+                        .toList())
+                .size(cursorPage.getPageSize())
+                .nextCursor(encodeCursor(cursorPage.getNextCursor()))
+                .build();
+    }
+
+    /**
+     * Cursors are opaque to clients: base64url of "{date}|{id}" of the last order of the page.
+     */
+    private String encodeCursor(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String value = cursor.getDate() + CURSOR_SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private OrderCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(CURSOR_SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(value.substring(0, separator)), UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new OrderException("Invalid cursor");
+        }
+    }
+
     @Override
     public OrderResponse assignOrderToEmployee(String orderId) {
         Order order = orderServicePort.assignOrderToEmployee(UUID.fromString(orderId));
         return orderMapper.toOrderResponse(order);
     }
 
+    @Override
+    public Optional<OrderResponse> claimNextOrder(String restaurantId) {
+        return orderServicePort.claimNextOrder(UUID.fromString(restaurantId))
+                .map(orderMapper::toOrderResponse);
+    }
+
+    @Override
+    public SseEmitter streamOrderEvents(String restaurantId, String lastEventId) {
+        UUID restaurantUuid = UUID.fromString(restaurantId);
+        orderServicePort.validateKitchenAccess(restaurantUuid);
+        return orderEventStreamPort.subscribe(restaurantUuid, lastEventId);
+    }
+
     @Override
     public NotificationResponse sendNotificationToCustomer(String orderId) {
         NotificationResult result = orderServicePort.sendNotificationToCustomer(UUID.fromString(orderId));
@@ -90,6 +223,25 @@ public class OrderHandler implements IOrderHandler {
         return traceabilityGroupedMapper.toTraceabilityGroupedResponseList(traceabilityGroupedList);
     }
 
+    @Override
+    public OrderStatusResponse getOrderStatus(String orderId) {
+        OrderStatus status = orderServicePort.getOrderStatus(UUID.fromString(orderId));
+        return new OrderStatusResponse(orderId, status.name());
+    }
+
+    @Override
+    public DeferredResult<OrderStatusResponse> waitForOrderStatus(String orderId, String afterStatus, Duration timeout) {
+        UUID orderUuid = UUID.fromString(orderId);
+        OrderStatus after = OrderStatus.fromString(afterStatus);
+        DeferredResult<OrderStatusResponse> result = new DeferredResult<>(timeout.toMillis(),
+                new OrderStatusResponse(orderId, after.name()));
+        CompletableFuture<OrderStatus> change = orderStatusWatchPort.watch(orderUuid, after,
+                () -> orderServicePort.getOrderStatus(orderUuid));
+        change.thenAccept(status -> result.setResult(new OrderStatusResponse(orderId, status.name())));
+        result.onCompletion(() -> change.cancel(false));
+        return result;
+    }
+
     @Override
     public List<TraceabilityResponse> getOrderTraceability(String orderId) {
         List<Traceability> traceabilityList = orderServicePort.getOrderTraceability(UUID.fromString(orderId));
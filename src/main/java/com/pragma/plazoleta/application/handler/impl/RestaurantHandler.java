@@ -14,6 +14,7 @@ import com.pragma.plazoleta.domain.model.Restaurant;
 import com.pragma.plazoleta.domain.model.DomainPage;
 import com.pragma.plazoleta.domain.model.EmployeeAverageTime;
 import com.pragma.plazoleta.domain.model.OrderSummary;
+import com.pragma.plazoleta.domain.utils.UuidGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -37,7 +38,7 @@ public class RestaurantHandler implements IRestaurantHandler {
     @Override
     public RestaurantResponse createRestaurant(RestaurantRequest request) {
         Restaurant restaurant = restaurantMapper.toRestaurant(request);
-        restaurant.setId(UUID.randomUUID());
+        restaurant.setId(UuidGenerator.timeOrdered());
         Restaurant created = restaurantServicePort.createRestaurant(restaurant);
         return restaurantMapper.toRestaurantResponse(created);
     }
@@ -1,8 +1,11 @@
 package com.pragma.plazoleta.application.mapper;
 
+import com.pragma.plazoleta.application.dto.request.DishImportRequest;
 import com.pragma.plazoleta.application.dto.request.DishRequest;
+import com.pragma.plazoleta.application.dto.response.DishImportResponse;
 import com.pragma.plazoleta.application.dto.response.DishResponse;
 import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DishImportResult;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -10,4 +13,6 @@ import org.mapstruct.ReportingPolicy;
 public interface IDishMapper {
     Dish toDish(DishRequest dishRequest);
     DishResponse toDishResponse(Dish model);
+    Dish toDish(DishImportRequest dishImportRequest);
+    DishImportResponse toDishImportResponse(DishImportResult result);
 } 
\ No newline at end of file
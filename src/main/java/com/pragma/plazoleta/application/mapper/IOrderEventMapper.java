@@ -0,0 +1,16 @@
+package com.pragma.plazoleta.application.mapper;
+
+import com.pragma.plazoleta.application.dto.response.OrderEventResponse;
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface IOrderEventMapper {
+
+    @Mapping(target = "type", expression = "java(orderEvent.getType().name())")
+    @Mapping(target = "status", expression = "java(orderEvent.getStatus().name())")
+    @Mapping(target = "chefId", expression = "java(orderEvent.getChefId() != null ? orderEvent.getChefId().toString() : null)")
+    OrderEventResponse toOrderEventResponse(OrderEvent orderEvent);
+}
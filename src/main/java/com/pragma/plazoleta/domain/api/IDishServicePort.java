@@ -1,15 +1,24 @@
 package com.pragma.plazoleta.domain.api;
 
 import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DishImportResult;
+import com.pragma.plazoleta.domain.model.DishImportRow;
 import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.MenuChanges;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 
 public interface IDishServicePort {
     Dish createDish(Dish dish);
+    void validateDishImport(UUID restaurantId);
+    List<DishImportResult> importDishes(UUID restaurantId, List<DishImportRow> rows);
     Dish updateDish(UUID dishId, Optional<Integer> price, Optional<String> description);
     Dish updateDishActive(UUID dishId, Optional<Boolean> active);
     DomainPage<Dish> getDishesByRestaurant(UUID restaurantId, Optional<Integer> categoryId, int page, int size);
+    MenuChanges getMenuChanges(UUID restaurantId, long sinceVersion, int size);
     boolean existsById(UUID id);
     boolean isActiveById(UUID id);
+    List<Dish> getDishesByIds(Collection<UUID> ids);
 } 
\ No newline at end of file
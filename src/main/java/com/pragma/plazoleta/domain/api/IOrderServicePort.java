@@ -1,23 +1,31 @@
 package com.pragma.plazoleta.domain.api;
 
 import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderCursorPage;
+import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.model.DomainPage;
 import com.pragma.plazoleta.domain.model.Traceability;
 import com.pragma.plazoleta.domain.model.TraceabilityGrouped;
 import com.pragma.plazoleta.domain.model.NotificationResult;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface IOrderServicePort {
     Order createOrder(Order order);
     boolean hasActiveOrders(UUID clientId);
     DomainPage<Order> getOrdersByStatusAndRestaurant(String status, UUID restaurantId, int page, int size);
+    OrderCursorPage getOrdersByStatusAndRestaurantAfter(String status, UUID restaurantId, OrderCursor after, int size);
     Order assignOrderToEmployee(UUID orderId);
+    Optional<Order> claimNextOrder(UUID restaurantId);
+    void validateKitchenAccess(UUID restaurantId);
     NotificationResult sendNotificationToCustomer(UUID orderId);
     Order updateSecurityPin(UUID orderId);
     Order updateOrderToDelivered(UUID orderId, String pin);
     Order cancelOrder(UUID orderId);
+    OrderStatus getOrderStatus(UUID orderId);
     List<TraceabilityGrouped> getClientHistory(UUID clientId);
     List<Traceability> getOrderTraceability(UUID orderId);
 } 
\ No newline at end of file
@@ -12,6 +12,7 @@ import java.util.UUID;
 public interface IRestaurantServicePort {
     Restaurant createRestaurant(Restaurant restaurant);
     Restaurant getRestaurantById(UUID id);
+    UUID getOwnerIdByRestaurantId(UUID id);
     DomainPage<Restaurant> getAllRestaurants(int page, int size);
     boolean existsById(UUID id);
     List<OrderSummary> getRestaurantOrdersSummary(UUID restaurantId);
@@ -0,0 +1,7 @@
+package com.pragma.plazoleta.domain.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DishImportResult {
+    private long line;
+    private String name;
+    private UUID dishId;
+    private boolean created;
+    private String error;
+}
@@ -0,0 +1,14 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DishImportRow {
+    private long line;
+    private Dish dish;
+    private String categoryName;
+}
@@ -0,0 +1,22 @@
+package com.pragma.plazoleta.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+    private OrderEventType type;
+    private UUID orderId;
+    private UUID restaurantId;
+    private OrderStatus status;
+    private UUID chefId;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,9 @@
+package com.pragma.plazoleta.domain.model;
+
+public enum OrderEventType {
+    CREATED,
+    ASSIGNED,
+    READY,
+    DELIVERED,
+    CANCELLED
+}
@@ -2,15 +2,23 @@ package com.pragma.plazoleta.domain.spi;
 
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.MenuChanges;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 
 public interface IDishPersistencePort {
     Dish save(Dish dish);
+    List<Dish> saveAll(List<Dish> dishes);
     Optional<Dish> getById(UUID id);
+    List<Dish> getByIds(Collection<UUID> ids);
     boolean existsByNameAndRestaurantId(String name, UUID restaurantId);
+    List<String> findExistingNames(UUID restaurantId, Collection<String> names);
     boolean updateDish(Dish dish);
     boolean updateDishActive(Dish dish);
     boolean existsById(UUID id);
     DomainPage<Dish> getDishesByRestaurant(UUID restaurantId, Optional<Integer> categoryId, int page, int size);
+    MenuChanges getMenuChanges(UUID restaurantId, long sinceVersion, int size);
+    long getMenuVersion(UUID restaurantId);
 } 
\ No newline at end of file
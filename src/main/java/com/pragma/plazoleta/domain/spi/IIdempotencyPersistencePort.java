@@ -0,0 +1,14 @@
+package com.pragma.plazoleta.domain.spi;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IIdempotencyPersistencePort {
+    /**
+     * Returns the stored response when the key completed for the same body, or empty when the caller
+     * now holds the reservation and must save a response or release it.
+     */
+    Optional<String> reserve(UUID userId, String idempotencyKey, String requestHash);
+    void saveResponse(UUID userId, String idempotencyKey, String requestHash, String response);
+    void release(UUID userId, String idempotencyKey);
+}
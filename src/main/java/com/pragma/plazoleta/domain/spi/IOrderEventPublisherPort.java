@@ -0,0 +1,7 @@
+package com.pragma.plazoleta.domain.spi;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+
+public interface IOrderEventPublisherPort {
+    void publish(OrderEvent event);
+}
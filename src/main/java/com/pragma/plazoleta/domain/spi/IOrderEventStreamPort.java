@@ -0,0 +1,7 @@
+package com.pragma.plazoleta.domain.spi;
+
+import java.util.UUID;
+
+public interface IOrderEventStreamPort<S> {
+    S subscribe(UUID restaurantId, String lastEventId);
+}
@@ -2,20 +2,22 @@ package com.pragma.plazoleta.domain.spi;
 
 import com.pragma.plazoleta.domain.model.Order;
 import com.pragma.plazoleta.domain.model.DomainPage;
-import com.pragma.plazoleta.domain.model.OrderDish;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderCursorPage;
 import com.pragma.plazoleta.domain.model.OrderStatus;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IOrderPersistencePort {
     Order saveOrder(Order order);
-    List<OrderDish> saveOrderDishes(List<OrderDish> orderDishes);
     boolean hasActiveOrders(UUID clientId);
     DomainPage<Order> findByStatusAndRestaurant(OrderStatus status, UUID restaurantId, int page, int size);
+    OrderCursorPage findByStatusAndRestaurantAfter(OrderStatus status, UUID restaurantId, OrderCursor after, int size);
     Optional<Order> findById(UUID id);
-    Optional<Order> updateOrderStatusAndChefId(Order order);
-    Optional<Order> updateOrderStatusAndSecurityPin(Order order);
-    Optional<Order> updateOrderStatus(Order order);
+    Optional<Order> findHeaderById(UUID id);
+    Optional<Order> updateOrderStatusAndChefId(Order order, OrderStatus expectedStatus);
+    Optional<Order> updateOrderStatusAndSecurityPin(Order order, OrderStatus expectedStatus);
+    Optional<Order> updateOrderStatus(Order order, OrderStatus expectedStatus);
+    Optional<Order> claimNextPendingOrder(UUID restaurantId, UUID chefId);
 } 
\ No newline at end of file
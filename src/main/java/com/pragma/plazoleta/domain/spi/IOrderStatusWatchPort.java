@@ -0,0 +1,11 @@
+package com.pragma.plazoleta.domain.spi;
+
+import com.pragma.plazoleta.domain.model.OrderStatus;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface IOrderStatusWatchPort {
+    CompletableFuture<OrderStatus> watch(UUID orderId, OrderStatus afterStatus, Supplier<OrderStatus> currentStatus);
+}
@@ -11,6 +11,7 @@ public interface IRestaurantPersistencePort {
     boolean existsByNit(long nit);
     boolean existsByName(String name);
     Optional<Restaurant> findById(UUID id);
+    Optional<UUID> findOwnerIdById(UUID id);
     boolean existsById(UUID id);
     DomainPage<Restaurant> findAll(int page, int size);
 } 
\ No newline at end of file
@@ -10,6 +10,9 @@ import com.pragma.plazoleta.domain.model.Traceability;
 import com.pragma.plazoleta.domain.model.TraceabilityGrouped;
 
 public interface ITraceCommunicationPort {
+    /**
+     * A trace saved without clientEmail gets it resolved from clientId before it is delivered.
+     */
     Optional<Traceability> createTrace(Traceability traceability);
     List<OrderSummary> getTraceByRestaurantId(UUID restaurantId);
     List<Traceability> getTraceByOrderId(UUID id);
@@ -0,0 +1,7 @@
+package com.pragma.plazoleta.domain.spi;
+
+import java.util.function.Supplier;
+
+public interface ITransactionPort {
+    <T> T runInTransaction(Supplier<T> action);
+}
@@ -1,8 +1,12 @@
 package com.pragma.plazoleta.domain.usecase;
 
 import com.pragma.plazoleta.domain.exception.DomainException;
+import com.pragma.plazoleta.domain.exception.ForbiddenException;
 import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DishImportResult;
+import com.pragma.plazoleta.domain.model.DishImportRow;
 import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.MenuChanges;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
 import com.pragma.plazoleta.domain.api.IDishServicePort;
 import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
@@ -10,11 +14,26 @@ import com.pragma.plazoleta.domain.api.ICategoryServicePort;
 import com.pragma.plazoleta.domain.spi.ISecurityContextPort;
 import lombok.RequiredArgsConstructor;
 
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class DishUseCase implements IDishServicePort {
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+    private static final int MAX_IMPORT_CHUNK_SIZE = 500;
+    private static final String DUPLICATE_NAME_MESSAGE = "A dish with this name already exists in this restaurant";
+    private static final String NOT_OWNER_MESSAGE = "Only the restaurant owner can create or update dishes";
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
     private final IDishPersistencePort dishPersistencePort;
     private final IRestaurantServicePort restaurantServicePort;
     private final ICategoryServicePort categoryServicePort;
@@ -23,16 +42,75 @@ public class DishUseCase implements IDishServicePort {
     @Override
     public Dish createDish(Dish dish) {
         validateRequiredFields(dish);
-        validateOwner(restaurantServicePort.getRestaurantById(dish.getRestaurantId()).getOwnerId());
+        validateOwner(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId()));
         validateUniqueNameByRestaurant(dish.getName(), dish.getRestaurantId());
         dish.setActive(true);
         return dishPersistencePort.save(dish);
     }
 
+    @Override
+    public void validateDishImport(UUID restaurantId) {
+        if (!isOwner(restaurantServicePort.getOwnerIdByRestaurantId(restaurantId))) {
+            throw new ForbiddenException(NOT_OWNER_MESSAGE);
+        }
+    }
+
+    /**
+     * Names are compared ignoring case and accents, like the utf8mb4_0900_ai_ci collation of dishes.name.
+     */
+    @Override
+    public List<DishImportResult> importDishes(UUID restaurantId, List<DishImportRow> rows) {
+        if (rows.size() > MAX_IMPORT_CHUNK_SIZE) {
+            throw new DomainException("An import chunk must not exceed " + MAX_IMPORT_CHUNK_SIZE + " dishes");
+        }
+        validateOwner(restaurantServicePort.getOwnerIdByRestaurantId(restaurantId));
+        List<String> names = rows.stream()
+                .map(row -> row.getDish().getName())
+                .filter(name -> !isBlank(name))
+                .distinct()
+                .toList();
+        Set<String> takenNames = dishPersistencePort.findExistingNames(restaurantId, names).stream()
+                .map(this::nameKey)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<Dish> accepted = new ArrayList<>();
+        List<DishImportResult> results = new ArrayList<>(rows.size());
+        for (DishImportRow row : rows) {
+            Dish dish = row.getDish();
+            dish.setRestaurantId(restaurantId);
+            try {
+                validateRequiredFields(dish);
+                dish.setCategoryId(categoryServicePort.getByName(row.getCategoryName()).getId());
+                if (!takenNames.add(nameKey(dish.getName()))) {
+                    throw new DomainException(DUPLICATE_NAME_MESSAGE);
+                }
+                dish.setActive(true);
+                accepted.add(dish);
+                results.add(DishImportResult.builder()
+                        .line(row.getLine())
+                        .name(dish.getName())
+                        .dishId(dish.getId())
+                        .created(true)
+                        .build());
+            } catch (DomainException ex) {
+                results.add(DishImportResult.builder()
+                        .line(row.getLine())
+                        .name(dish.getName())
+                        .created(false)
+                        .error(ex.getMessage())
+                        .build());
+            }
+        }
+        if (!accepted.isEmpty()) {
+            dishPersistencePort.saveAll(accepted);
+        }
+        return results;
+    }
+
     @Override
     public Dish updateDish(UUID dishId, Optional<Integer> price, Optional<String> description) {
         Dish dish = getById(dishId);
-        validateOwner(restaurantServicePort.getRestaurantById(dish.getRestaurantId()).getOwnerId());
+        validateOwner(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId()));
         if (price.isEmpty() && description.isEmpty()) {
             throw new DomainException("At least one field (price or description) must be provided");
         }
@@ -54,7 +132,7 @@ public class DishUseCase implements IDishServicePort {
     @Override
     public Dish updateDishActive(UUID dishId, Optional<Boolean> active) {
         Dish dish = getById(dishId);
-        validateOwner(restaurantServicePort.getRestaurantById(dish.getRestaurantId()).getOwnerId());
+        validateOwner(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId()));
         if (active.isEmpty()) {
             throw new DomainException("Active field must be provided");
         }
@@ -78,6 +156,20 @@ public class DishUseCase implements IDishServicePort {
         return dishPersistencePort.getDishesByRestaurant(restaurantId, categoryId, page, size);
     }
 
+    @Override
+    public MenuChanges getMenuChanges(UUID restaurantId, long sinceVersion, int size) {
+        if (sinceVersion < 0) {
+            throw new DomainException("Since version must not be negative");
+        }
+        if (size < 1 || size > MAX_CHANGES_PAGE_SIZE) {
+            throw new DomainException("Page size must be between 1 and " + MAX_CHANGES_PAGE_SIZE);
+        }
+        if (!restaurantServicePort.existsById(restaurantId)) {
+            throw new DomainException("Restaurant not found");
+        }
+        return dishPersistencePort.getMenuChanges(restaurantId, sinceVersion, size);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return dishPersistencePort.existsById(id);
@@ -90,6 +182,14 @@ public class DishUseCase implements IDishServicePort {
                 .orElse(false);
     }
 
+    @Override
+    public List<Dish> getDishesByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return dishPersistencePort.getByIds(ids);
+    }
+
     private Dish getById(UUID id) {
         return dishPersistencePort.getById(id)
                 .orElseThrow(() -> new DomainException("Dish not found"));
@@ -105,16 +205,25 @@ public class DishUseCase implements IDishServicePort {
 
     private void validateUniqueNameByRestaurant(String name, UUID restaurantId) {
         if (dishPersistencePort.existsByNameAndRestaurantId(name, restaurantId)) {
-            throw new DomainException("A dish with this name already exists in this restaurant");
+            throw new DomainException(DUPLICATE_NAME_MESSAGE);
         }
     }
 
     private void validateOwner(UUID restaurantOwnerId) {
+        if (!isOwner(restaurantOwnerId)) {
+            throw new DomainException(NOT_OWNER_MESSAGE);
+        }
+    }
+
+    private boolean isOwner(UUID restaurantOwnerId) {
         UUID userId = securityContextPort.getUserIdOfUserAutenticated();
         String role = securityContextPort.getRoleOfUserAutenticated();
-        if (!"OWNER".equalsIgnoreCase(role) || !userId.equals(restaurantOwnerId)) {
-            throw new DomainException("Only the restaurant owner can create or update dishes");
-        }
+        return "OWNER".equalsIgnoreCase(role) && userId.equals(restaurantOwnerId);
+    }
+
+    private String nameKey(String name) {
+        String withoutMarks = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return withoutMarks.toLowerCase(Locale.ROOT);
     }
 
     private boolean isBlank(String s) {
@@ -4,20 +4,28 @@ import com.pragma.plazoleta.domain.api.IOrderServicePort;
 import com.pragma.plazoleta.domain.api.IDishServicePort;
 import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
 import com.pragma.plazoleta.domain.exception.OrderException;
+import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.Order;
 import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderCursorPage;
 import com.pragma.plazoleta.domain.model.OrderDish;
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.model.OrderEventType;
 import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.model.Traceability;
 import com.pragma.plazoleta.domain.model.TraceabilityGrouped;
 import com.pragma.plazoleta.domain.model.Notification;
 import com.pragma.plazoleta.domain.model.NotificationResult;
 import com.pragma.plazoleta.domain.service.OrderStatusService;
+import com.pragma.plazoleta.domain.spi.IOrderEventPublisherPort;
 import com.pragma.plazoleta.domain.spi.IOrderPersistencePort;
 import com.pragma.plazoleta.domain.spi.ISecurityContextPort;
 import com.pragma.plazoleta.domain.spi.ITraceCommunicationPort; 
+import com.pragma.plazoleta.domain.spi.ITransactionPort;
 import com.pragma.plazoleta.domain.spi.IUserRoleValidationPort;
 import com.pragma.plazoleta.domain.utils.Constants;
+import com.pragma.plazoleta.domain.utils.UuidGenerator;
 import com.pragma.plazoleta.domain.spi.INotificationPersistencePort;
 
 import java.security.SecureRandom;
@@ -25,14 +33,23 @@ import java.security.SecureRandom;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class OrderUseCase implements IOrderServicePort {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     private final SecureRandom random = new SecureRandom();
     private final IOrderPersistencePort orderPersistencePort;
     private final IDishServicePort dishServicePort;
@@ -42,18 +59,25 @@ public class OrderUseCase implements IOrderServicePort {
     private final INotificationPersistencePort messagePersistencePort;
     private final ITraceCommunicationPort traceCommunicationPort;
     private final OrderStatusService orderStatusService;
-
+    private final ITransactionPort transactionPort;
+    private final IOrderEventPublisherPort orderEventPublisherPort;
+    private final Executor validationExecutor;
 
     private Order getOrderById(UUID orderId) {
         return orderPersistencePort.findById(orderId)
                 .orElseThrow(() -> new OrderException("Order not found"));
     }
 
+    private Order getOrderHeaderById(UUID orderId) {
+        return orderPersistencePort.findHeaderById(orderId)
+                .orElseThrow(() -> new OrderException("Order not found"));
+    }
+
     @Override
     public Order createOrder(Order orderToSave) {
         validateRole(Constants.CUSTOMER_ROLE);
         validateOrderDishes(orderToSave);
-        UUID orderId = UUID.randomUUID();
+        UUID orderId = UuidGenerator.timeOrdered();
         Order order= Order.builder()
                 .id(orderId)
                 .clientId(securityContextPort.getUserIdOfUserAutenticated())
@@ -69,11 +93,19 @@ public class OrderUseCase implements IOrderServicePort {
                                 .toList())
                 .build();
         validateNoDuplicateDishes(order);
-        validateNoActiveOrders(order);
-        validateRestaurantExists(order);
-        validateOrderDishesDetails(order);
-        createTraceability(order, null, OrderStatus.PENDING.toString());
-        return orderPersistencePort.saveOrder(order);
+        AtomicReference<String> clientEmail = new AtomicReference<>();
+        runInParallel(
+                () -> validateRestaurantExists(order),
+                () -> validateOrderDishesDetails(order),
+                () -> clientEmail.set(getClientEmail(order)));
+        Traceability traceability = buildTraceability(order, clientEmail.get(), null, null, OrderStatus.PENDING.toString());
+        Order savedOrder = transactionPort.runInTransaction(() -> {
+            Order persistedOrder = orderPersistencePort.saveOrder(order);
+            saveTraceability(traceability);
+            return persistedOrder;
+        });
+        publishEvent(OrderEventType.CREATED, savedOrder);
+        return savedOrder;
     }
 
     @Override
@@ -89,6 +121,17 @@ public class OrderUseCase implements IOrderServicePort {
         return orderPersistencePort.findByStatusAndRestaurant(orderStatus, restaurantId, page, size);
     }
 
+    @Override
+    public OrderCursorPage getOrdersByStatusAndRestaurantAfter(String status, UUID restaurantId, OrderCursor after, int size) {
+        OrderStatus orderStatus = OrderStatus.fromString(status);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new OrderException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        validateRole(Constants.EMPLOYEE_ROLE);
+        validateEmployeeOfRestaurant(restaurantId, securityContextPort.getUserIdOfUserAutenticated());
+        return orderPersistencePort.findByStatusAndRestaurantAfter(orderStatus, restaurantId, after, size);
+    }
+
     @Override
     public Order assignOrderToEmployee(UUID orderId) {
         Order order = getOrderById(orderId);
@@ -98,12 +141,43 @@ public class OrderUseCase implements IOrderServicePort {
         validateEmployeeOfRestaurant(order.getRestaurantId(), employeeId);
         order.setChefId(employeeId);
         order.setStatus(OrderStatus.IN_PREPARATION);
-        Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatusAndChefId(order);
-        if (updatedOrder.isEmpty()) {
-            throw new OrderException("Failed to update order - order not found after update");
-        }
-        createTraceability(order, OrderStatus.PENDING.toString(), OrderStatus.IN_PREPARATION.toString());
-        return updatedOrder.get();
+        Traceability traceability = buildTraceability(order, OrderStatus.PENDING.toString(), OrderStatus.IN_PREPARATION.toString());
+        Order assignedOrder = transactionPort.runInTransaction(() -> {
+            Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatusAndChefId(order, OrderStatus.PENDING);
+            if (updatedOrder.isEmpty()) {
+                throw new OrderException("Order is no longer pending");
+            }
+            saveTraceability(traceability);
+            return updatedOrder.get();
+        });
+        publishEvent(OrderEventType.ASSIGNED, assignedOrder);
+        return assignedOrder;
+    }
+
+    @Override
+    public void validateKitchenAccess(UUID restaurantId) {
+        validateRole(Constants.EMPLOYEE_ROLE);
+        validateEmployeeOfRestaurant(restaurantId, securityContextPort.getUserIdOfUserAutenticated());
+    }
+
+    /**
+     * The trace is saved without the client email, so no remote call runs while the order is locked.
+     */
+    @Override
+    public Optional<Order> claimNextOrder(UUID restaurantId) {
+        validateRole(Constants.EMPLOYEE_ROLE);
+        UUID employeeId = securityContextPort.getUserIdOfUserAutenticated();
+        validateEmployeeOfRestaurant(restaurantId, employeeId);
+        String employeeEmail = userRoleValidationPort.getEmailByUserId(employeeId)
+                .orElseThrow(() -> new OrderException("Employee email not found"));
+        Optional<Order> claimedOrder = transactionPort.runInTransaction(() -> {
+            Optional<Order> nextOrder = orderPersistencePort.claimNextPendingOrder(restaurantId, employeeId);
+            nextOrder.ifPresent(order -> saveTraceability(buildTraceability(order, null, employeeEmail,
+                    OrderStatus.PENDING.toString(), OrderStatus.IN_PREPARATION.toString())));
+            return nextOrder;
+        });
+        claimedOrder.ifPresent(order -> publishEvent(OrderEventType.ASSIGNED, order));
+        return claimedOrder;
     }
 
     @Override
@@ -117,17 +191,22 @@ public class OrderUseCase implements IOrderServicePort {
         }
         order.setSecurityPin(generateSecurityPin());
         order.setStatus(OrderStatus.READY);
-        Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatusAndSecurityPin(order);
-        if (updatedOrder.isEmpty()) {
-            throw new OrderException("Failed to update order status");
-        }
-        createTraceability(order, OrderStatus.IN_PREPARATION.toString(), OrderStatus.READY.toString());
-        return updatedOrder.get();
+        Traceability traceability = buildTraceability(order, OrderStatus.IN_PREPARATION.toString(), OrderStatus.READY.toString());
+        Order readyOrder = transactionPort.runInTransaction(() -> {
+            Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatusAndSecurityPin(order, OrderStatus.IN_PREPARATION);
+            if (updatedOrder.isEmpty()) {
+                throw new OrderException("Failed to update order status");
+            }
+            saveTraceability(traceability);
+            return updatedOrder.get();
+        });
+        publishEvent(OrderEventType.READY, readyOrder);
+        return readyOrder;
     }
 
     @Override
     public NotificationResult sendNotificationToCustomer(UUID orderId) {
-        Order order = getOrderById(orderId);
+        Order order = getOrderHeaderById(orderId);
         if (order.getStatus() != OrderStatus.READY) {
             throw new OrderException("Order is not in status ready");
         }
@@ -139,6 +218,7 @@ public class OrderUseCase implements IOrderServicePort {
         }
             
         Notification notification = Notification.builder()
+            .orderId(order.getId())
             .message("¡Tu pedido está listo! Código de seguridad: " + order.getSecurityPin() + ". Puedes recogerlo en el restaurante.")
             .phoneNumber(phoneNumber.get())
             .build();
@@ -160,12 +240,10 @@ public class OrderUseCase implements IOrderServicePort {
             throw new OrderException("Invalid PIN");
         }
         order.setStatus(OrderStatus.DELIVERED);
-        Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatus(order);
-        if (updatedOrder.isEmpty()) {
-            throw new OrderException("Failed to update order status");
-        }
-        createTraceability(order, OrderStatus.READY.toString(), OrderStatus.DELIVERED.toString());
-        return updatedOrder.get();
+        Traceability traceability = buildTraceability(order, OrderStatus.READY.toString(), OrderStatus.DELIVERED.toString());
+        Order deliveredOrder = updateOrderStatus(order, OrderStatus.READY, traceability);
+        publishEvent(OrderEventType.DELIVERED, deliveredOrder);
+        return deliveredOrder;
     }
 
     @Override
@@ -175,12 +253,21 @@ public class OrderUseCase implements IOrderServicePort {
         validateRole(Constants.CUSTOMER_ROLE);
         validateClientIsOrderOwner(order);
         order.setStatus(OrderStatus.CANCELLED);
-        Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatus(order);
-        if (updatedOrder.isEmpty()) {
-            throw new OrderException("Failed to update order status");
-        }
-        createTraceability(order, OrderStatus.PENDING.toString(), OrderStatus.CANCELLED.toString());
-        return updatedOrder.get();
+        Traceability traceability = buildTraceability(order, OrderStatus.PENDING.toString(), OrderStatus.CANCELLED.toString());
+        Order cancelledOrder = updateOrderStatus(order, OrderStatus.PENDING, traceability);
+        publishEvent(OrderEventType.CANCELLED, cancelledOrder);
+        return cancelledOrder;
+    }
+
+    private Order updateOrderStatus(Order order, OrderStatus expectedStatus, Traceability traceability) {
+        return transactionPort.runInTransaction(() -> {
+            Optional<Order> updatedOrder = orderPersistencePort.updateOrderStatus(order, expectedStatus);
+            if (updatedOrder.isEmpty()) {
+                throw new OrderException("Failed to update order status");
+            }
+            saveTraceability(traceability);
+            return updatedOrder.get();
+        });
     }
 
     @Override
@@ -190,14 +277,36 @@ public class OrderUseCase implements IOrderServicePort {
         return traceCommunicationPort.getTraceByClientId(clientId);
     }
 
+    @Override
+    public OrderStatus getOrderStatus(UUID orderId) {
+        validateRole(Constants.CUSTOMER_ROLE);
+        Order order = getOrderHeaderById(orderId);
+        validateClientIsOrderOwner(order);
+        return order.getStatus();
+    }
+
     @Override
     public List<Traceability> getOrderTraceability(UUID orderId) {
         validateRole(Constants.CUSTOMER_ROLE);
-        validateClientIsOrderOwner(getOrderById(orderId));
+        validateClientIsOrderOwner(getOrderHeaderById(orderId));
         return traceCommunicationPort.getTraceByOrderId(orderId);
     }
 
-    private void createTraceability(Order order, String previousState, String newState) {
+    /**
+     * Called after the transaction commits, so listeners never see a change that was rolled back.
+     */
+    private void publishEvent(OrderEventType type, Order order) {
+        orderEventPublisherPort.publish(OrderEvent.builder()
+                .type(type)
+                .orderId(order.getId())
+                .restaurantId(order.getRestaurantId())
+                .status(order.getStatus())
+                .chefId(order.getChefId())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Traceability buildTraceability(Order order, String previousState, String newState) {
         Optional<String> employeeEmail = Optional.empty();
         if (order.getStatus() != OrderStatus.CANCELLED && order.getStatus() != OrderStatus.PENDING) {
             employeeEmail = userRoleValidationPort.getEmailByUserId(order.getChefId());
@@ -207,26 +316,66 @@ public class OrderUseCase implements IOrderServicePort {
                 employeeEmail = Optional.of(employeeEmail.get());
             }
         }
-        Optional<String> email = userRoleValidationPort.getEmailByUserId(order.getClientId());
-        if (email.isEmpty()) {
-            throw new OrderException("Client email not found");
-        }
-        Traceability traceability = Traceability.builder()
+        return buildTraceability(order, getClientEmail(order), employeeEmail.orElse(null), previousState, newState);
+    }
+
+    private Traceability buildTraceability(Order order, String clientEmail, String employeeEmail, String previousState, String newState) {
+        return Traceability.builder()
             .orderId(order.getId())
             .employeeId(order.getChefId())
             .clientId(order.getClientId())
-            .clientEmail(email.get())
-            .employeeEmail(employeeEmail.orElse(null))
+            .clientEmail(clientEmail)
+            .employeeEmail(employeeEmail)
             .previousState(previousState)
             .newState(newState)
+            .date(LocalDateTime.now())
             .restaurantId(order.getRestaurantId())
             .build();
+    }
+
+    private void saveTraceability(Traceability traceability) {
         Optional<Traceability> traceabilityOptional = traceCommunicationPort.createTrace(traceability);
         if (traceabilityOptional.isEmpty()) {
             throw new OrderException("Failed to create traceability");
         }
     }
 
+    private String getClientEmail(Order order) {
+        return userRoleValidationPort.getEmailByUserId(order.getClientId())
+                .orElseThrow(() -> new OrderException("Client email not found"));
+    }
+
+    /**
+     * The first failure is rethrown as soon as it happens; checks that have not started are skipped.
+     */
+    private void runInParallel(Runnable... tasks) {
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        CompletableFuture<?>[] futures = Arrays.stream(tasks)
+                .map(task -> CompletableFuture.runAsync(() -> {
+                    if (!failure.isDone()) {
+                        task.run();
+                    }
+                }, validationExecutor).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        failure.completeExceptionally(unwrap(error));
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures), failure).join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private void validateClientIsOrderOwner(Order order) {
         if (!order.getClientId().equals(securityContextPort.getUserIdOfUserAutenticated())) {
             throw new OrderException("You are not the owner of this order");
@@ -278,12 +427,6 @@ public class OrderUseCase implements IOrderServicePort {
         }
     }
 
-    private void validateNoActiveOrders(Order order) {
-        if (hasActiveOrders(order.getClientId())) {
-            throw new OrderException("You cannot have more than one active order");
-        }
-    }
-
     private void validateRestaurantExists(Order order) {
         if (!restaurantServicePort.existsById(order.getRestaurantId())) {
             throw new OrderException("Restaurant does not exist");
@@ -292,27 +435,41 @@ public class OrderUseCase implements IOrderServicePort {
 
     private void validateOrderDishesDetails(Order order) {
         for (OrderDish orderDish : order.getOrderDishes()) {
-            validateDishExists(orderDish);
-            validateDishIsActive(orderDish);
+            if (orderDish.getDishId() == null) {
+                throw new OrderException("Dish id is required");
+            }
+        }
+        Map<UUID, Dish> dishesById = dishServicePort.getDishesByIds(
+                order.getOrderDishes().stream().map(OrderDish::getDishId).toList())
+                .stream()
+                .collect(Collectors.toMap(Dish::getId, Function.identity()));
+        for (OrderDish orderDish : order.getOrderDishes()) {
+            Dish dish = dishesById.get(orderDish.getDishId());
+            validateDishExists(orderDish, dish);
+            validateDishIsActive(orderDish, dish);
+            validateDishBelongsToRestaurant(orderDish, dish, order.getRestaurantId());
             validateDishQuantity(orderDish);
         }
     }
 
-    private void validateDishExists(OrderDish orderDish) {
-        if (orderDish.getDishId() == null) {
-            throw new OrderException("Dish id is required");
-        }
-        if (!dishServicePort.existsById(orderDish.getDishId())) {
+    private void validateDishExists(OrderDish orderDish, Dish dish) {
+        if (dish == null) {
             throw new OrderException("Dish with id " + orderDish.getDishId() + " does not exist");
         }
     }
 
-    private void validateDishIsActive(OrderDish orderDish) {
-        if (!dishServicePort.isActiveById(orderDish.getDishId())) {
+    private void validateDishIsActive(OrderDish orderDish, Dish dish) {
+        if (!dish.isActive()) {
             throw new OrderException("Dish with id " + orderDish.getDishId() + " is not active");
         }
     }
 
+    private void validateDishBelongsToRestaurant(OrderDish orderDish, Dish dish, UUID restaurantId) {
+        if (!restaurantId.equals(dish.getRestaurantId())) {
+            throw new OrderException("Dish with id " + orderDish.getDishId() + " does not belong to the restaurant");
+        }
+    }
+
     private void validateDishQuantity(OrderDish orderDish) {
         if (orderDish.getQuantity() == null){
             throw new OrderException("Quantity is required");
@@ -44,6 +44,12 @@ public class RestaurantUseCase implements IRestaurantServicePort {
                 .orElseThrow(() -> new DomainException("Restaurant not found"));
     }
 
+    @Override
+    public UUID getOwnerIdByRestaurantId(UUID id) {
+        return restaurantPersistencePort.findOwnerIdById(id)
+                .orElseThrow(() -> new DomainException("Restaurant not found"));
+    }
+
     @Override
     public DomainPage<Restaurant> getAllRestaurants(int page, int size) {
         return restaurantPersistencePort.findAll(page, size);
@@ -67,7 +73,7 @@ public class RestaurantUseCase implements IRestaurantServicePort {
     }
 
     private void validateRoleAndRestaurantOwner(UUID restaurantId) {
-        if (!"OWNER".equalsIgnoreCase(securityContextPort.getRoleOfUserAutenticated()) || !getRestaurantById(restaurantId).getOwnerId().equals(securityContextPort.getUserIdOfUserAutenticated())) {
+        if (!"OWNER".equalsIgnoreCase(securityContextPort.getRoleOfUserAutenticated()) || !getOwnerIdByRestaurantId(restaurantId).equals(securityContextPort.getUserIdOfUserAutenticated())) {
             throw new DomainException("You are not the owner of this restaurant");
         }
     }
@@ -0,0 +1,31 @@
+package com.pragma.plazoleta.domain.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Version 7 UUIDs (RFC 9562): time ordered, so primary-key inserts stay append-only.
+ */
+public class UuidGenerator {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidGenerator() {}
+
+    public static UUID timeOrdered() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) (timestamp >>> (40 - 8 * i));
+        }
+        bytes[6] = (byte) ((bytes[6] & 0x0F) | 0x70);
+        bytes[8] = (byte) ((bytes[8] & 0x3F) | 0x80);
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSignificantBits = (mostSignificantBits << 8) | (bytes[i] & 0xFF);
+            leastSignificantBits = (leastSignificantBits << 8) | (bytes[i + 8] & 0xFF);
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
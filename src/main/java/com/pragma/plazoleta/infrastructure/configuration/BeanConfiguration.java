@@ -1,10 +1,14 @@
 package com.pragma.plazoleta.infrastructure.configuration;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.plazoleta.application.dto.response.RoleResponse;
+import com.pragma.plazoleta.application.dto.response.UserResponse;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DomainPage;
 import com.pragma.plazoleta.domain.spi.*;
 import com.pragma.plazoleta.domain.api.IDishServicePort;
 import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
 import com.pragma.plazoleta.application.mapper.IEmployeeAverageTimeMapper;
-import com.pragma.plazoleta.application.mapper.INotificationMapper;
 import com.pragma.plazoleta.application.mapper.IOrderSummaryMapper;
 import com.pragma.plazoleta.application.mapper.ITraceabilityGroupedMapper;
 import com.pragma.plazoleta.application.mapper.ITraceabilityMapper;
@@ -19,28 +23,41 @@ import com.pragma.plazoleta.infrastructure.output.jpa.adapter.SecurityContextAda
 import com.pragma.plazoleta.infrastructure.output.jpa.adapter.CategoryJpaAdapter;
 import com.pragma.plazoleta.infrastructure.output.jpa.adapter.DishJpaAdapter;
 import com.pragma.plazoleta.infrastructure.output.jpa.adapter.OrderJpaAdapter;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.IdempotencyJpaAdapter;
+import com.pragma.plazoleta.infrastructure.output.cache.CachedCategoryPersistenceAdapter;
+import com.pragma.plazoleta.infrastructure.output.cache.CachedDishPersistenceAdapter;
+import com.pragma.plazoleta.infrastructure.output.cache.MenuPageKey;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.CounterStore;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.NotificationQueueJpaAdapter;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.TraceOutboxJpaAdapter;
+import com.pragma.plazoleta.infrastructure.output.jpa.adapter.TransactionAdapter;
 import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IRestaurantEntityMapper;
-import com.pragma.plazoleta.infrastructure.output.jpa.mapper.ICategoryEntityMapper;
-import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IDishEntityMapper;
 import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IOrderEntityMapper;
-import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IOrderDishEntityMapper;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IRestaurantRepository;
-import com.pragma.plazoleta.infrastructure.output.rest.adapter.NotificationRestClientAdapter;
 import com.pragma.plazoleta.infrastructure.output.rest.adapter.TraceRestClientAdapter;
 import com.pragma.plazoleta.infrastructure.output.rest.adapter.UserRoleRestClientAdapter;
-import com.pragma.plazoleta.infrastructure.output.rest.client.NotificationFeignClient;
 import com.pragma.plazoleta.infrastructure.output.rest.client.TraceFeignClient;
 import com.pragma.plazoleta.infrastructure.output.rest.client.UserFeignClient;
-import com.pragma.plazoleta.infrastructure.output.jpa.repository.ICategoryRepository;
-import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderRepository;
-import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderDishRepository;
-import com.pragma.plazoleta.infrastructure.security.JwtService;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IIdempotencyKeyRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceOutboxRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.INotificationQueueRepository;
+import com.pragma.plazoleta.infrastructure.output.event.CompositeOrderEventPublisher;
 import com.pragma.plazoleta.domain.service.OrderStatusService;
 
+import java.time.Duration;
+import java.util.UUID;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @RequiredArgsConstructor
@@ -48,49 +65,61 @@ public class BeanConfiguration {
     private final IRestaurantRepository restaurantRepository;
     private final IRestaurantEntityMapper restaurantEntityMapper;
 
-    private final ICategoryRepository categoryRepository;
-    private final IDishRepository dishRepository;
     private final IOrderRepository orderRepository;
-    private final IOrderDishRepository orderDishRepository;
+    private final IIdempotencyKeyRepository idempotencyKeyRepository;
+    private final ITraceOutboxRepository traceOutboxRepository;
+    private final INotificationQueueRepository notificationQueueRepository;
+    private final List<IOrderEventPublisherPort> orderEventPublishers;
+    private final CounterStore counterStore;
+    private final DishJpaAdapter dishJpaAdapter;
+    private final CategoryJpaAdapter categoryJpaAdapter;
+    private final Cache<MenuPageKey, DomainPage<Dish>> menuCache;
 
-    private final ICategoryEntityMapper categoryEntityMapper;
-    private final IDishEntityMapper dishEntityMapper;
     private final IOrderEntityMapper orderEntityMapper;
-    private final IOrderDishEntityMapper orderDishEntityMapper;
     private final ITraceabilityMapper traceabilityMapper;
     private final IEmployeeAverageTimeMapper employeeAverageTimeMapper;
     private final ITraceabilityGroupedMapper traceabilityGroupedMapper;
     private final IOrderSummaryMapper orderSummaryMapper;
 
-    private final JwtService jwtService;
     private final UserFeignClient userFeignClient;
+    private final Cache<String, UserResponse> userProfileCache;
+    private final Cache<String, RoleResponse> roleCache;
+    private final Cache<UUID, String> employeeRestaurantCache;
+    private final Cache<UUID, UUID> restaurantOwnerCache;
     private final TraceFeignClient traceFeignClient;
-    private final NotificationFeignClient messageFeignClient;
-    private final INotificationMapper notificationMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Qualifier("validationExecutor")
+    private final Executor validationExecutor;
 
     @Bean
     public ISecurityContextPort securityContextPort() {
-        return new SecurityContextAdapter(jwtService);
+        return new SecurityContextAdapter();
     }
 
     @Bean
     public IRestaurantPersistencePort restaurantPersistencePort() {
-        return new RestaurantJpaAdapter(restaurantRepository, restaurantEntityMapper);
+        return new RestaurantJpaAdapter(restaurantRepository, restaurantEntityMapper, counterStore, restaurantOwnerCache);
     }
 
     @Bean
     public ICategoryPersistencePort categoryPersistencePort() {
-        return new CategoryJpaAdapter(categoryRepository, categoryEntityMapper);
+        return new CachedCategoryPersistenceAdapter(categoryJpaAdapter);
     }
 
+    /**
+     * Wraps the scanned DishJpaAdapter bean rather than a new instance, so its transactional
+     * methods keep their proxy behind the cache.
+     */
     @Bean
     public IDishPersistencePort dishPersistencePort() {
-        return new DishJpaAdapter(dishRepository, dishEntityMapper);
+        return new CachedDishPersistenceAdapter(dishJpaAdapter, menuCache);
     }
 
     @Bean
     public IUserRoleValidationPort userRoleValidationPort() {
-        return new UserRoleRestClientAdapter(userFeignClient);
+        return new UserRoleRestClientAdapter(userFeignClient, userProfileCache, roleCache, employeeRestaurantCache);
     }
 
     @Bean
@@ -105,7 +134,15 @@ public class BeanConfiguration {
 
     @Bean
     public IOrderPersistencePort orderPersistencePort() {
-        return new OrderJpaAdapter(orderRepository, orderDishRepository, orderEntityMapper, orderDishEntityMapper);
+        return new OrderJpaAdapter(orderRepository, orderEntityMapper, counterStore);
+    }
+
+    @Bean
+    public IIdempotencyPersistencePort idempotencyPersistencePort(
+            @Value("${order.idempotency.window:PT24H}") Duration window,
+            @Value("${order.idempotency.lease:PT1M}") Duration lease,
+            @Value("${order.idempotency.cache-size:10000}") int cacheSize) {
+        return new IdempotencyJpaAdapter(idempotencyKeyRepository, window, lease, cacheSize);
     }
 
     @Bean
@@ -120,17 +157,23 @@ public class BeanConfiguration {
 
     @Bean
     public INotificationPersistencePort messagePersistencePort() {
-        return new NotificationRestClientAdapter(messageFeignClient, notificationMapper);
+        return new NotificationQueueJpaAdapter(notificationQueueRepository);
     }
 
     @Bean
     public ITraceCommunicationPort traceCommunicationPort() {
-        return new TraceRestClientAdapter(traceFeignClient, traceabilityMapper, traceabilityGroupedMapper, orderSummaryMapper, employeeAverageTimeMapper);
+        return new TraceOutboxJpaAdapter(traceOutboxRepository, traceabilityMapper, objectMapper,
+                new TraceRestClientAdapter(traceFeignClient, traceabilityMapper, traceabilityGroupedMapper, orderSummaryMapper, employeeAverageTimeMapper));
+    }
+
+    @Bean
+    public ITransactionPort transactionPort() {
+        return new TransactionAdapter(new TransactionTemplate(transactionManager));
     }
 
     @Bean
     public IOrderServicePort orderServicePort() {
         return new OrderUseCase(orderPersistencePort(), dishServicePort(), restaurantServicePort(), 
-        securityContextPort(), userRoleValidationPort(), messagePersistencePort(), traceCommunicationPort(), orderStatusService());
+        securityContextPort(), userRoleValidationPort(), messagePersistencePort(), traceCommunicationPort(), orderStatusService(), transactionPort(), new CompositeOrderEventPublisher(orderEventPublishers), validationExecutor);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+public class MembershipCacheConfiguration {
+
+    /**
+     * Grants access to a kitchen, so the short ttl bounds how long a reassigned employee keeps it.
+     */
+    @Bean
+    public Cache<UUID, String> employeeRestaurantCache(
+            @Value("${membership.cache.employee-ttl:PT1M}") Duration ttl,
+            @Value("${membership.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        Cache<UUID, String> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeeRestaurants");
+    }
+
+    @Bean
+    public Cache<UUID, UUID> restaurantOwnerCache(
+            @Value("${membership.cache.ttl:PT30M}") Duration ttl,
+            @Value("${membership.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        Cache<UUID, UUID> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "restaurantOwners");
+    }
+}
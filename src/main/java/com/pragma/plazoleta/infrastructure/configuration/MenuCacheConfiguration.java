@@ -0,0 +1,31 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.infrastructure.output.cache.MenuPageKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MenuCacheConfiguration {
+
+    @Bean
+    public Cache<MenuPageKey, DomainPage<Dish>> menuCache(
+            @Value("${menu.cache.ttl:PT10M}") Duration ttl,
+            @Value("${menu.cache.max-size:5000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        Cache<MenuPageKey, DomainPage<Dish>> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "menuPages");
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class OrderEventConfiguration {
+
+    /**
+     * A connection is drained by at most one thread at a time.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor orderEventExecutor(
+            @Value("${order.events.executor.size:4}") int size,
+            @Value("${order.events.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-events-");
+        executor.initialize();
+        return executor;
+    }
+}
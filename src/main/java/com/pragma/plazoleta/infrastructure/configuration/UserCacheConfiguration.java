@@ -0,0 +1,42 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.plazoleta.application.dto.response.RoleResponse;
+import com.pragma.plazoleta.application.dto.response.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class UserCacheConfiguration {
+
+    @Bean
+    public Cache<String, UserResponse> userProfileCache(
+            @Value("${user.cache.ttl:PT5M}") Duration ttl,
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        Cache<String, UserResponse> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "userProfiles");
+    }
+
+    @Bean
+    public Cache<String, RoleResponse> roleCache(
+            @Value("${user.cache.role-ttl:PT1H}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        Cache<String, RoleResponse> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(100)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "roles");
+    }
+}
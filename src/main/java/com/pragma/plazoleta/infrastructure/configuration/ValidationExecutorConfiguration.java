@@ -0,0 +1,70 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import com.pragma.plazoleta.infrastructure.output.rest.ForwardedAuthorization;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ValidationExecutorConfiguration {
+
+    /**
+     * Boot backs off from applicationTaskExecutor, used by MVC async requests, once another
+     * Executor bean exists, so it is declared here from spring.task.execution.*.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor validationExecutor(
+            @Value("${order.validation.executor.core-size:8}") int coreSize,
+            @Value("${order.validation.executor.max-size:16}") int maxSize,
+            @Value("${order.validation.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-validation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(requestContextTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Copies the header value, never the request, which may be recycled while sibling tasks still run.
+     * Previous values are restored because the task may run on the caller.
+     */
+    private TaskDecorator requestContextTaskDecorator() {
+        return runnable -> {
+            String authorization = ForwardedAuthorization.fromCurrentRequest();
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            return () -> {
+                String previousAuthorization = ForwardedAuthorization.get();
+                SecurityContext previousContext = SecurityContextHolder.getContext();
+                ForwardedAuthorization.set(authorization);
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    runnable.run();
+                } finally {
+                    SecurityContextHolder.setContext(previousContext);
+                    ForwardedAuthorization.set(previousAuthorization);
+                }
+            };
+        };
+    }
+}
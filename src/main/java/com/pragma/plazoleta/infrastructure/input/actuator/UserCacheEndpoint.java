@@ -0,0 +1,36 @@
+package com.pragma.plazoleta.infrastructure.input.actuator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.plazoleta.application.dto.response.RoleResponse;
+import com.pragma.plazoleta.application.dto.response.UserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@Endpoint(id = "usercache")
+@RequiredArgsConstructor
+public class UserCacheEndpoint {
+    private final Cache<String, UserResponse> userProfileCache;
+    private final Cache<String, RoleResponse> roleCache;
+    private final Cache<UUID, String> employeeRestaurantCache;
+    private final Cache<UUID, UUID> restaurantOwnerCache;
+
+    @DeleteOperation
+    public void evictAll() {
+        userProfileCache.invalidateAll();
+        roleCache.invalidateAll();
+        employeeRestaurantCache.invalidateAll();
+        restaurantOwnerCache.invalidateAll();
+    }
+
+    @DeleteOperation
+    public void evictUser(@Selector String userId) {
+        userProfileCache.invalidate(userId);
+        employeeRestaurantCache.invalidate(UUID.fromString(userId));
+    }
+}
@@ -1,7 +1,10 @@
 package com.pragma.plazoleta.infrastructure.input.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pragma.plazoleta.application.dto.response.CategoryResponse;
 import com.pragma.plazoleta.application.handler.ICategoryHandler;
+import com.pragma.plazoleta.infrastructure.exception.InfraestructureException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,10 +13,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 
 
@@ -24,17 +32,46 @@ import java.util.List;
 @PreAuthorize("hasAnyRole('ADMIN', 'OWNER')")
 public class CategoryRestController {
     private final ICategoryHandler handler;
+    private final ObjectMapper objectMapper;
+    private volatile EncodedCategories encodedCategories;
 
-    @GetMapping
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
         summary = "List all categories",
-        description = "Returns a list of all categories. Example: /api/v1/categories"
+        description = "Returns a list of all categories. Example: /api/v1/categories. Send the ETag back in If-None-Match to get 304 while the catalog is unchanged."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "List of categories", content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class))))
+        @ApiResponse(responseCode = "200", description = "List of categories", content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class)))),
+        @ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<CategoryResponse>> getAll() {
-        List<CategoryResponse> response = handler.getAll();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getAll(WebRequest webRequest) {
+        EncodedCategories encoded = encode(handler.getAll());
+        if (webRequest.checkNotModified(encoded.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(encoded.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encoded.body());
     }
-} 
\ No newline at end of file
+
+    private EncodedCategories encode(List<CategoryResponse> categories) {
+        EncodedCategories current = encodedCategories;
+        if (current != null && current.categories().equals(categories)) {
+            return current;
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(categories);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            EncodedCategories encoded = new EncodedCategories(List.copyOf(categories), body, etag);
+            encodedCategories = encoded;
+            return encoded;
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new InfraestructureException("Could not encode the category catalog");
+        }
+    }
+
+    private record EncodedCategories(List<CategoryResponse> categories, byte[] body, String etag) {
+    }
+}
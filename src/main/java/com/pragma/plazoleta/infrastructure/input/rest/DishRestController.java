@@ -3,6 +3,7 @@ package com.pragma.plazoleta.infrastructure.input.rest;
 import com.pragma.plazoleta.application.dto.request.DishRequest;
 import com.pragma.plazoleta.application.dto.request.DishUpdateRequest;
 import com.pragma.plazoleta.application.dto.request.DishActiveUpdateRequest;
+import com.pragma.plazoleta.application.dto.response.DishImportResponse;
 import com.pragma.plazoleta.application.dto.response.DishResponse;
 import com.pragma.plazoleta.application.handler.IDishHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,18 +12,25 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1/dishes")
 @RequiredArgsConstructor
 @Tag(name = "Dishes", description = "Dish management endpoints")
 public class DishRestController {
     private final IDishHandler handler;
+    private final NdjsonDishImporter dishImporter;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('OWNER')")
@@ -37,6 +45,25 @@ public class DishRestController {
         return ResponseEntity.status(201).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = NdjsonDishImporter.NDJSON)
+    @PreAuthorize("hasAnyRole('OWNER')")
+    @Operation(summary = "Import dishes", description = "Creates dishes from an NDJSON body with one dish per line (name, price, description, imageUrl, categoryName). Streams back one NDJSON result per line with the line number, the dish id when created, or the error. Only the restaurant owner can import dishes.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed, see the result of each line", content = @Content(mediaType = NdjsonDishImporter.NDJSON, schema = @Schema(implementation = DishImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid restaurant id", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "User is not the owner of the restaurant", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Restaurant not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public void importDishes(
+            @RequestParam UUID restaurantId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        handler.validateDishImport(restaurantId);
+        response.setContentType(NdjsonDishImporter.NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        dishImporter.importDishes(restaurantId, request.getInputStream(), response.getOutputStream());
+    }
+
     @PatchMapping("/{dishId}")
     @PreAuthorize("hasAnyRole('OWNER')")
     @Operation(summary = "Update dish price and/or description", description = "Updates price and/or description of a dish. Only the restaurant owner can update.")
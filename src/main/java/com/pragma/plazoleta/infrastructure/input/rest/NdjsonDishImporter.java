@@ -0,0 +1,185 @@
+package com.pragma.plazoleta.infrastructure.input.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazoleta.application.dto.request.DishImportRequest;
+import com.pragma.plazoleta.application.dto.response.DishImportResponse;
+import com.pragma.plazoleta.application.handler.IDishHandler;
+import com.pragma.plazoleta.domain.exception.DomainException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Memory is bounded by the chunk size and the line length cap.
+ */
+@Slf4j
+@Component
+public class NdjsonDishImporter {
+    public static final String NDJSON = "application/x-ndjson";
+    private static final String CHUNK_FAILED = "Dish could not be saved, import this line again";
+
+    private final IDishHandler dishHandler;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public NdjsonDishImporter(IDishHandler dishHandler,
+                              ObjectMapper objectMapper,
+                              @Value("${dish.import.chunk-size:100}") int chunkSize,
+                              @Value("${dish.import.max-line-length:8192}") int maxLineLength) {
+        this.dishHandler = dishHandler;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    public void importDishes(UUID restaurantId, InputStream input, OutputStream output) throws IOException {
+        LineReader reader = new LineReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), maxLineLength);
+        List<DishImportRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        while (reader.next()) {
+            lineNumber++;
+            if (reader.isTooLong()) {
+                flush(restaurantId, chunkLines, chunk, output);
+                writeError(output, lineNumber, "Line is longer than " + maxLineLength + " characters");
+                continue;
+            }
+            String line = reader.line();
+            if (line.isBlank()) {
+                continue;
+            }
+            DishImportRequest request = parse(line);
+            if (request == null) {
+                flush(restaurantId, chunkLines, chunk, output);
+                writeError(output, lineNumber, "Line is not a valid dish JSON object");
+                continue;
+            }
+            chunk.add(request);
+            chunkLines.add(lineNumber);
+            if (chunk.size() == chunkSize) {
+                flush(restaurantId, chunkLines, chunk, output);
+            }
+        }
+        flush(restaurantId, chunkLines, chunk, output);
+        output.flush();
+    }
+
+    private DishImportRequest parse(String line) {
+        try {
+            return objectMapper.readValue(line, DishImportRequest.class);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Results follow the order of the lines, so a chunk is also sent early when a rejected line
+     * interrupts it.
+     */
+    private void flush(UUID restaurantId, List<Long> lines, List<DishImportRequest> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<DishImportResponse> results;
+        try {
+            results = dishHandler.importDishes(restaurantId, lines, chunk);
+        } catch (RuntimeException ex) {
+            results = failed(lines, chunk, ex);
+        }
+        for (DishImportResponse result : results) {
+            write(output, result);
+        }
+        chunk.clear();
+        lines.clear();
+        output.flush();
+    }
+
+    private List<DishImportResponse> failed(List<Long> lines, List<DishImportRequest> chunk, RuntimeException ex) {
+        String error = CHUNK_FAILED;
+        if (ex instanceof DomainException) {
+            error = ex.getMessage();
+        } else {
+            log.error("Dish import chunk of lines {}-{} failed", lines.get(0), lines.get(lines.size() - 1), ex);
+        }
+        List<DishImportResponse> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            results.add(DishImportResponse.builder()
+                    .line(lines.get(i))
+                    .name(chunk.get(i).getName())
+                    .created(false)
+                    .error(error)
+                    .build());
+        }
+        return results;
+    }
+
+    private void writeError(OutputStream output, long lineNumber, String error) throws IOException {
+        write(output, DishImportResponse.builder()
+                .line(lineNumber)
+                .created(false)
+                .error(error)
+                .build());
+    }
+
+    private void write(OutputStream output, DishImportResponse result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+    }
+
+    /**
+     * Like BufferedReader.readLine, but keeps at most maxLength characters of each line.
+     */
+    private static final class LineReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        private boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+            while (c != -1 && c != '\n') {
+                if (c != '\r') {
+                    if (line.length() < maxLength) {
+                        line.append((char) c);
+                    } else {
+                        tooLong = true;
+                    }
+                }
+                c = reader.read();
+            }
+            return true;
+        }
+
+        private boolean isTooLong() {
+            return tooLong;
+        }
+
+        private String line() {
+            return line.toString();
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.pragma.plazoleta.application.dto.request.OrderRequest;
 import com.pragma.plazoleta.application.dto.request.ValidationRequest;
 import com.pragma.plazoleta.application.dto.response.NotificationResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponse;
+import com.pragma.plazoleta.application.dto.response.OrderStatusResponse;
 import com.pragma.plazoleta.application.dto.response.TraceabilityGroupedResponse;
 import com.pragma.plazoleta.application.dto.response.TraceabilityResponse;
 import com.pragma.plazoleta.application.handler.IOrderHandler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,20 +17,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
 import java.util.List;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 @RequiredArgsConstructor
 @Tag(name = "Orders", description = "Order management endpoints")
+@Validated
 public class OrderRestController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     private final IOrderHandler orderHandler;
 
@@ -39,10 +48,14 @@ public class OrderRestController {
         @ApiResponse(responseCode = "201", description = "Order created successfully", content = @Content(schema = @Schema(implementation = OrderResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(schema = @Schema(hidden = true))),
-        @ApiResponse(responseCode = "409", description = "Customer already has an active order", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "409", description = "Customer already has an active order, or a request with the same Idempotency-Key is still running", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request body", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest orderRequest) {
-        OrderResponse orderResponse = orderHandler.createOrder(orderRequest);
+    public ResponseEntity<OrderResponse> createOrder(
+            @Valid @RequestBody OrderRequest orderRequest,
+            @Parameter(description = "Client generated key; retries with the same key return the original order")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) @Size(max = 100) String idempotencyKey) {
+        OrderResponse orderResponse = orderHandler.createOrder(orderRequest, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(orderResponse);
     }
 
@@ -125,6 +138,25 @@ public class OrderRestController {
         return ResponseEntity.ok(notificationResponse);
     }
 
+    @GetMapping("/{orderId}/status")
+    @PreAuthorize("hasAnyRole('CUSTOMER')")
+    @Operation(summary = "Wait for order status change", description = "Returns as soon as the order leaves the given status, or the unchanged status when the timeout expires")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Current order status", content = @Content(schema = @Schema(implementation = OrderStatusResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid order ID or timeout", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Access denied or validation failed", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Order not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public DeferredResult<OrderStatusResponse> waitForOrderStatus(
+            @PathVariable String orderId,
+            @Parameter(description = "Status the client currently knows; the request completes once the order leaves it")
+            @RequestParam String after,
+            @Parameter(description = "Maximum wait, from 1s to 60s")
+            @RequestParam(defaultValue = "30s") @Pattern(regexp = "([1-9]|[1-5]\\d|60)s") String timeout) {
+        Duration wait = Duration.ofSeconds(Long.parseLong(timeout.substring(0, timeout.length() - 1)));
+        return orderHandler.waitForOrderStatus(orderId, after, wait);
+    }
+
     @GetMapping("/client/{clientId}")
     @PreAuthorize("hasAnyRole('CUSTOMER')")
     @Operation(summary = "Get client history", description = "Lists the history of orders from a client")
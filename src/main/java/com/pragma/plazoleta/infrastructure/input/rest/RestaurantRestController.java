@@ -4,14 +4,18 @@ import com.pragma.plazoleta.application.dto.request.RestaurantRequest;
 import com.pragma.plazoleta.application.dto.response.RestaurantResponse;
 import com.pragma.plazoleta.application.dto.response.RestaurantListResponse;
 import com.pragma.plazoleta.application.dto.response.RestaurantMenuResponse;
+import com.pragma.plazoleta.application.dto.response.MenuChangesResponse;
 import com.pragma.plazoleta.application.handler.IRestaurantHandler;
 import com.pragma.plazoleta.application.handler.IDishHandler;
 import com.pragma.plazoleta.application.handler.IOrderHandler;
 import com.pragma.plazoleta.application.dto.response.EmployeeAverageTimeResponse;
+import com.pragma.plazoleta.application.dto.response.CursorPageResponse;
+import com.pragma.plazoleta.application.dto.response.OrderEventResponse;
 import com.pragma.plazoleta.application.dto.response.OrderResponse;
 import com.pragma.plazoleta.application.dto.response.OrderSummaryResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -21,9 +25,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -123,6 +129,50 @@ public class RestaurantRestController {
         return ResponseEntity.ok(menu);
     }
 
+    @GetMapping("/{restaurantId}/menu/changes")
+    @PreAuthorize("hasAnyRole('CUSTOMER')")
+    @Operation(summary = "Get restaurant menu changes", description = "Lists the dishes of a restaurant created or updated after the given version, including deactivated ones. Start with since=0 and pass the returned version on the next call.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Menu changes retrieved successfully", content = @Content(schema = @Schema(implementation = MenuChangesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid version or page size", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Restaurant not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<MenuChangesResponse> getRestaurantMenuChanges(
+            @PathVariable String restaurantId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(dishHandler.getRestaurantMenuChanges(restaurantId, since, size));
+    }
+
+    @GetMapping(value = "/{restaurantId}/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('EMPLOYEE')")
+    @Operation(summary = "Stream order changes", description = "Pushes created, assigned, ready, delivered and cancelled order events of the restaurant as Server-Sent Events")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened", content = @Content(schema = @Schema(implementation = OrderEventResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied or validation failed", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public SseEmitter streamOrderEvents(
+            @PathVariable String restaurantId,
+            @Parameter(description = "Id of the last event received; missed events are replayed when still buffered")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return orderHandler.streamOrderEvents(restaurantId, lastEventId);
+    }
+
+    @PostMapping("/{restaurantId}/orders/claim")
+    @PreAuthorize("hasAnyRole('EMPLOYEE')")
+    @Operation(summary = "Claim next pending order", description = "Assigns the oldest pending order of the restaurant to the authenticated employee and updates its status to IN_PREPARATION")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Order claimed successfully", content = @Content(schema = @Schema(implementation = OrderResponse.class))),
+        @ApiResponse(responseCode = "204", description = "No pending orders to claim", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Access denied or validation failed", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<OrderResponse> claimNextOrder(@PathVariable String restaurantId) {
+        return orderHandler.claimNextOrder(restaurantId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     @GetMapping("/{restaurantId}/orders")
     @PreAuthorize("hasAnyRole('EMPLOYEE')")
     @Operation(summary = "Get orders by status and restaurant", description = "Gets paginated orders filtered by status for a specific restaurant")
@@ -139,4 +189,21 @@ public class RestaurantRestController {
         Page<OrderResponse> orders = orderHandler.getOrdersByStatusAndRestaurant(status, restaurantId, page, size);
         return ResponseEntity.ok(orders);
     }
+
+    @GetMapping(value = "/{restaurantId}/orders", params = "cursor")
+    @PreAuthorize("hasAnyRole('EMPLOYEE')")
+    @Operation(summary = "Get orders by status and restaurant with a cursor", description = "Gets orders filtered by status for a specific restaurant, oldest first. Send an empty cursor for the first page and the returned nextCursor for the following ones; nextCursor is null on the last page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Orders retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getOrdersByStatusAndRestaurantWithCursor(
+            @PathVariable String restaurantId,
+            @RequestParam String status,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPageResponse<OrderResponse> orders = orderHandler.getOrdersByStatusAndRestaurant(status, restaurantId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
 } 
\ No newline at end of file
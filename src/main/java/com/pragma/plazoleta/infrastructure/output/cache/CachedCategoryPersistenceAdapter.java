@@ -0,0 +1,77 @@
+package com.pragma.plazoleta.infrastructure.output.cache;
+
+import com.pragma.plazoleta.domain.model.Category;
+import com.pragma.plazoleta.domain.spi.ICategoryPersistencePort;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A reload with the same rows keeps the current snapshot, so callers can detect changes by identity.
+ */
+public class CachedCategoryPersistenceAdapter implements ICategoryPersistencePort {
+    private final ICategoryPersistencePort delegate;
+    private volatile Snapshot snapshot;
+
+    public CachedCategoryPersistenceAdapter(ICategoryPersistencePort delegate) {
+        this.delegate = delegate;
+        this.snapshot = Snapshot.of(delegate.getAll());
+    }
+
+    @Scheduled(fixedDelayString = "${category.catalog.refresh-interval:PT5M}",
+            initialDelayString = "${category.catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        List<Category> categories = delegate.getAll();
+        if (!categories.equals(snapshot.all())) {
+            snapshot = Snapshot.of(categories);
+        }
+    }
+
+    @Override
+    public List<Category> getAll() {
+        return snapshot.all();
+    }
+
+    @Override
+    public Optional<Category> getByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.byName().get(nameKey(name)));
+    }
+
+    @Override
+    public Optional<Category> getById(Integer id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.byId().get(id));
+    }
+
+    @Override
+    public boolean existsById(Integer id) {
+        return id != null && snapshot.byId().containsKey(id);
+    }
+
+    /**
+     * Names are matched ignoring case, like the case-insensitive collation of the name column.
+     */
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(List<Category> all, Map<Integer, Category> byId, Map<String, Category> byName) {
+        static Snapshot of(List<Category> categories) {
+            return new Snapshot(
+                    List.copyOf(categories),
+                    categories.stream().collect(Collectors.toUnmodifiableMap(Category::getId, Function.identity())),
+                    categories.stream().collect(Collectors.toUnmodifiableMap(
+                            category -> nameKey(category.getName()), Function.identity(), (first, second) -> first)));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.pragma.plazoleta.infrastructure.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.MenuChanges;
+import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Pages are keyed on the shared menu version, read from the primary before the page, so a change
+ * committed on any instance makes later reads miss.
+ */
+public class CachedDishPersistenceAdapter implements IDishPersistencePort {
+    private final IDishPersistencePort delegate;
+    private final Cache<MenuPageKey, DomainPage<Dish>> menuCache;
+
+    public CachedDishPersistenceAdapter(IDishPersistencePort delegate, Cache<MenuPageKey, DomainPage<Dish>> menuCache) {
+        this.delegate = delegate;
+        this.menuCache = menuCache;
+    }
+
+    @Override
+    public DomainPage<Dish> getDishesByRestaurant(UUID restaurantId, Optional<Integer> categoryId, int page, int size) {
+        Integer category = categoryId.orElse(null);
+        MenuPageKey key = new MenuPageKey(restaurantId, category, delegate.getMenuVersion(restaurantId), page, size);
+        return menuCache.get(key, k -> delegate.getDishesByRestaurant(restaurantId, categoryId, page, size));
+    }
+
+    @Override
+    public Dish save(Dish dish) {
+        return delegate.save(dish);
+    }
+
+    @Override
+    public List<Dish> saveAll(List<Dish> dishes) {
+        return delegate.saveAll(dishes);
+    }
+
+    @Override
+    public boolean updateDish(Dish dish) {
+        return delegate.updateDish(dish);
+    }
+
+    @Override
+    public boolean updateDishActive(Dish dish) {
+        return delegate.updateDishActive(dish);
+    }
+
+    @Override
+    public Optional<Dish> getById(UUID id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public List<Dish> getByIds(Collection<UUID> ids) {
+        return delegate.getByIds(ids);
+    }
+
+    @Override
+    public boolean existsByNameAndRestaurantId(String name, UUID restaurantId) {
+        return delegate.existsByNameAndRestaurantId(name, restaurantId);
+    }
+
+    @Override
+    public List<String> findExistingNames(UUID restaurantId, Collection<String> names) {
+        return delegate.findExistingNames(restaurantId, names);
+    }
+
+    @Override
+    public MenuChanges getMenuChanges(UUID restaurantId, long sinceVersion, int size) {
+        return delegate.getMenuChanges(restaurantId, sinceVersion, size);
+    }
+
+    @Override
+    public long getMenuVersion(UUID restaurantId) {
+        return delegate.getMenuVersion(restaurantId);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+}
@@ -0,0 +1,6 @@
+package com.pragma.plazoleta.infrastructure.output.cache;
+
+import java.util.UUID;
+
+public record MenuPageKey(UUID restaurantId, Integer categoryId, long menuVersion, int page, int size) {
+}
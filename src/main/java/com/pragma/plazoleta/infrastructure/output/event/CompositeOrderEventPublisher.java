@@ -0,0 +1,26 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.spi.IOrderEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CompositeOrderEventPublisher implements IOrderEventPublisherPort {
+    private final List<IOrderEventPublisherPort> publishers;
+
+    @Override
+    public void publish(OrderEvent event) {
+        for (IOrderEventPublisherPort publisher : publishers) {
+            try {
+                publisher.publish(event);
+            } catch (RuntimeException e) {
+                log.warn("Order event listener {} failed on {} event for order {}",
+                        publisher.getClass().getSimpleName(), event.getType(), event.getOrderId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.application.dto.response.OrderEventResponse;
+import com.pragma.plazoleta.application.mapper.IOrderEventMapper;
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.spi.IOrderEventPublisherPort;
+import com.pragma.plazoleta.domain.spi.IOrderEventStreamPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Event ids are "{epoch}-{sequence}": a screen reconnecting with an id unknown to this instance gets
+ * a reset event and must reload. Each connection has its own bounded queue; one that overflows
+ * is closed.
+ */
+@Component
+public class OrderEventBroadcaster implements IOrderEventPublisherPort, IOrderEventStreamPort<SseEmitter> {
+    private static final String ORDER_EVENT_NAME = "order";
+    private static final String RESET_EVENT_NAME = "reset";
+
+    private final IOrderEventMapper orderEventMapper;
+    private final Executor eventExecutor;
+    private final int replaySize;
+    private final int subscriberQueueSize;
+    private final long emitterTimeoutMillis;
+    private final String epoch = Long.toString(System.currentTimeMillis());
+    private final Map<UUID, RestaurantChannel> channels = new ConcurrentHashMap<>();
+
+    public OrderEventBroadcaster(IOrderEventMapper orderEventMapper,
+                                 @Qualifier("orderEventExecutor") Executor eventExecutor,
+                                 @Value("${order.events.replay-size:200}") int replaySize,
+                                 @Value("${order.events.subscriber-queue-size:256}") int subscriberQueueSize,
+                                 @Value("${order.events.emitter-timeout:PT30M}") Duration emitterTimeout) {
+        this.orderEventMapper = orderEventMapper;
+        this.eventExecutor = eventExecutor;
+        this.replaySize = replaySize;
+        this.subscriberQueueSize = Math.max(subscriberQueueSize, replaySize + 1);
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    @Override
+    public void publish(OrderEvent event) {
+        channel(event.getRestaurantId()).publish(orderEventMapper.toOrderEventResponse(event));
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID restaurantId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        channel(restaurantId).subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${order.events.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        channels.values().forEach(RestaurantChannel::heartbeat);
+    }
+
+    private RestaurantChannel channel(UUID restaurantId) {
+        return channels.computeIfAbsent(restaurantId, id -> new RestaurantChannel());
+    }
+
+    private final class RestaurantChannel {
+        private final Deque<SequencedEvent> replay = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private long sequence;
+
+        synchronized void publish(OrderEventResponse payload) {
+            SequencedEvent event = new SequencedEvent(++sequence, payload);
+            replay.addLast(event);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(toSse(event)));
+        }
+
+        synchronized void subscribe(SseEmitter emitter, String lastEventId) {
+            Subscriber subscriber = new Subscriber(emitter, this);
+            if (lastEventId != null) {
+                Long lastSequence = parseSequence(lastEventId);
+                if (lastSequence == null || !canReplayFrom(lastSequence)) {
+                    subscriber.offer(SseEmitter.event().name(RESET_EVENT_NAME).data("reload"));
+                } else {
+                    replay.stream()
+                            .filter(event -> event.sequence() > lastSequence)
+                            .forEach(event -> subscriber.offer(toSse(event)));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        void heartbeat() {
+            subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+        }
+
+        void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        private boolean canReplayFrom(long lastSequence) {
+            if (lastSequence > sequence) {
+                return false;
+            }
+            return replay.isEmpty() ? lastSequence == sequence : replay.peekFirst().sequence() <= lastSequence + 1;
+        }
+
+        private Long parseSequence(String lastEventId) {
+            int separator = lastEventId.indexOf('-');
+            if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+                return null;
+            }
+            try {
+                return Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(SequencedEvent event) {
+        return SseEmitter.event()
+                .id(epoch + "-" + event.sequence())
+                .name(ORDER_EVENT_NAME)
+                .data(event.payload());
+    }
+
+    private record SequencedEvent(long sequence, OrderEventResponse payload) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final RestaurantChannel channel;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, RestaurantChannel channel) {
+            this.emitter = emitter;
+            this.channel = channel;
+            emitter.onCompletion(this::detach);
+            emitter.onTimeout(this::close);
+            emitter.onError(error -> detach());
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                eventExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed && !queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void close() {
+            detach();
+            emitter.complete();
+        }
+
+        private void detach() {
+            closed = true;
+            queue.clear();
+            channel.remove(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.domain.spi.IOrderEventPublisherPort;
+import com.pragma.plazoleta.domain.spi.IOrderStatusWatchPort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Waiters only see events published by this instance.
+ */
+@Component
+public class OrderStatusWatcher implements IOrderEventPublisherPort, IOrderStatusWatchPort {
+    private final Map<UUID, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the waiter before reading the current status, so a transition that happens in
+     * between is not missed.
+     */
+    @Override
+    public CompletableFuture<OrderStatus> watch(UUID orderId, OrderStatus afterStatus, Supplier<OrderStatus> currentStatus) {
+        Waiter waiter = new Waiter(afterStatus, new CompletableFuture<>());
+        waiters.compute(orderId, (id, orderWaiters) -> {
+            Set<Waiter> registered = orderWaiters == null ? ConcurrentHashMap.newKeySet() : orderWaiters;
+            registered.add(waiter);
+            return registered;
+        });
+        waiter.change().whenComplete((status, error) -> remove(orderId, waiter));
+        try {
+            completeIfChanged(waiter, currentStatus.get());
+        } catch (RuntimeException e) {
+            remove(orderId, waiter);
+            throw e;
+        }
+        return waiter.change();
+    }
+
+    @Override
+    public void publish(OrderEvent event) {
+        Set<Waiter> orderWaiters = waiters.get(event.getOrderId());
+        if (orderWaiters == null) {
+            return;
+        }
+        orderWaiters.forEach(waiter -> completeIfChanged(waiter, event.getStatus()));
+    }
+
+    private void completeIfChanged(Waiter waiter, OrderStatus current) {
+        if (current != waiter.afterStatus()) {
+            waiter.change().complete(current);
+        }
+    }
+
+    private void remove(UUID orderId, Waiter waiter) {
+        waiters.computeIfPresent(orderId, (id, orderWaiters) -> {
+            orderWaiters.remove(waiter);
+            return orderWaiters.isEmpty() ? null : orderWaiters;
+        });
+    }
+
+    private record Waiter(OrderStatus afterStatus, CompletableFuture<OrderStatus> change) {
+    }
+}
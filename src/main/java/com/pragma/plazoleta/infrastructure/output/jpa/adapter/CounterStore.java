@@ -0,0 +1,75 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ICounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Each counter is striped over several rows so concurrent writers rarely wait on the same row lock.
+ */
+@Component
+public class CounterStore {
+    private static final String RESTAURANTS_KEY = "restaurants";
+
+    private final ICounterRepository counterRepository;
+    private final int stripes;
+    private final Cache<String, Long> totals;
+
+    public CounterStore(ICounterRepository counterRepository,
+                        @Value("${counters.stripes:8}") int stripes,
+                        @Value("${counters.read-ttl:PT5S}") Duration readTtl) {
+        this.counterRepository = counterRepository;
+        this.stripes = stripes;
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(readTtl)
+                .maximumSize(10_000)
+                .build();
+    }
+
+    public static String ordersKey(UUID restaurantId, OrderStatusEntity status) {
+        return "orders:" + restaurantId + ":" + status.name();
+    }
+
+    public static String activeDishesKey(UUID restaurantId) {
+        return "dishes:" + restaurantId;
+    }
+
+    public static String activeDishesKey(UUID restaurantId, int categoryId) {
+        return "dishes:" + restaurantId + ":" + categoryId;
+    }
+
+    public static String restaurantsKey() {
+        return RESTAURANTS_KEY;
+    }
+
+    /**
+     * The cached total is dropped after commit; dropping it earlier would let a concurrent reader
+     * cache the old sum again for the whole read ttl.
+     */
+    public void add(String counterKey, long delta) {
+        counterRepository.add(counterKey, ThreadLocalRandom.current().nextInt(stripes), delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    totals.invalidate(counterKey);
+                }
+            });
+        } else {
+            totals.invalidate(counterKey);
+        }
+    }
+
+    public long get(String counterKey) {
+        return totals.get(counterKey, counterRepository::sumByCounterKey);
+    }
+}
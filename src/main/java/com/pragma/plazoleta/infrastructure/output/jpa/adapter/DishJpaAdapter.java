@@ -2,43 +2,108 @@ package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
 
 import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.model.MenuChanges;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
+import com.pragma.plazoleta.infrastructure.output.jpa.datasource.ReplicaRouting;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.DishEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.MenuVersionEntity;
 import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IDishEntityMapper;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IMenuVersionRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class DishJpaAdapter implements IDishPersistencePort {
+    private static final UuidBinaryConverter UUID_CONVERTER = new UuidBinaryConverter();
+
     private final IDishRepository repository;
+    private final IMenuVersionRepository menuVersionRepository;
     private final IDishEntityMapper mapper;
+    private final CounterStore counterStore;
 
     @Override
+    @Transactional
     public Dish save(Dish dish) {
         DishEntity entity = mapper.toDishEntity(dish);
+        entity.setVersion(nextMenuVersion(entity.getRestaurantId()));
+        entity.setUpdatedAt(LocalDateTime.now());
         DishEntity saved = repository.save(entity);
+        if (saved.isActive()) {
+            addActiveDishes(saved.getRestaurantId(), saved.getCategoryId(), 1);
+        }
         return mapper.toDish(saved);
     }
 
+    /**
+     * One version upsert per restaurant keeps the inserts in JDBC batches.
+     */
+    @Override
+    @Transactional
+    public List<Dish> saveAll(List<Dish> dishes) {
+        List<DishEntity> entities = dishes.stream()
+                .map(mapper::toDishEntity)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, List<DishEntity>> byRestaurant = entities.stream()
+                .collect(Collectors.groupingBy(DishEntity::getRestaurantId, LinkedHashMap::new, Collectors.toList()));
+        byRestaurant.forEach((restaurantId, restaurantDishes) -> {
+            long version = nextMenuVersion(restaurantId, restaurantDishes.size()) - restaurantDishes.size();
+            for (DishEntity entity : restaurantDishes) {
+                entity.setVersion(++version);
+                entity.setUpdatedAt(now);
+            }
+        });
+        List<DishEntity> saved = repository.saveAll(entities);
+
+        Map<String, Long> activeDeltas = new HashMap<>();
+        for (DishEntity entity : saved) {
+            if (entity.isActive()) {
+                activeDeltas.merge(CounterStore.activeDishesKey(entity.getRestaurantId()), 1L, Long::sum);
+                activeDeltas.merge(CounterStore.activeDishesKey(entity.getRestaurantId(), entity.getCategoryId()), 1L, Long::sum);
+            }
+        }
+        activeDeltas.forEach(counterStore::add);
+        return saved.stream()
+                .map(mapper::toDish)
+                .toList();
+    }
+
     @Override
     public Optional<Dish> getById(UUID id) {
-        return repository.findById(id.toString()).map(mapper::toDish);
+        return repository.findById(id).map(mapper::toDish);
+    }
+
+    @Override
+    public List<Dish> getByIds(Collection<UUID> ids) {
+        return repository.findByIdIn(ids).stream()
+                .map(mapper::toDish)
+                .toList();
     }
 
     @Override
     @Transactional
     public boolean updateDish(Dish dish) {
         DishEntity entity = mapper.toDishEntity(dish);
-        int updatedRows = repository.updatePriceAndDescription(entity.getId(), entity.getPrice(), entity.getDescription());
+        int updatedRows = repository.updatePriceAndDescription(entity.getId(), entity.getPrice(), entity.getDescription(),
+                nextMenuVersion(entity.getRestaurantId()), LocalDateTime.now());
         return updatedRows != 0;
     }
 
@@ -46,25 +111,63 @@ public class DishJpaAdapter implements IDishPersistencePort {
     @Transactional
     public boolean updateDishActive(Dish dish) {
         DishEntity entity = mapper.toDishEntity(dish);
-        int updatedRows = repository.updateActive(entity.getId(), entity.isActive());
-        return updatedRows != 0;
+        int updatedRows = repository.updateActive(entity.getId(), entity.isActive(),
+                nextMenuVersion(entity.getRestaurantId()), LocalDateTime.now());
+        if (updatedRows == 0) {
+            return repository.existsById(entity.getId());
+        }
+        addActiveDishes(entity.getRestaurantId(), entity.getCategoryId(), entity.isActive() ? 1 : -1);
+        return true;
+    }
+
+    /**
+     * Takes the next version of the restaurant menu. The version row stays locked until the
+     * caller commits, so a version skipped by a no-op update is the only gap a reader can see.
+     */
+    private long nextMenuVersion(UUID restaurantId) {
+        return nextMenuVersion(restaurantId, 1);
+    }
+
+    private long nextMenuVersion(UUID restaurantId, long count) {
+        menuVersionRepository.increment(UUID_CONVERTER.convertToDatabaseColumn(restaurantId), count);
+        return menuVersionRepository.findVersionByRestaurantId(restaurantId);
+    }
+
+    private void addActiveDishes(UUID restaurantId, int categoryId, long delta) {
+        counterStore.add(CounterStore.activeDishesKey(restaurantId), delta);
+        counterStore.add(CounterStore.activeDishesKey(restaurantId, categoryId), delta);
     }
 
     @Override
     public boolean existsByNameAndRestaurantId(String name, UUID restaurantId) {
-        return repository.existsByNameAndRestaurantId(name, restaurantId.toString());
+        return repository.existsByNameAndRestaurantId(name, restaurantId);
+    }
+
+    @Override
+    public List<String> findExistingNames(UUID restaurantId, Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        return repository.findNamesByRestaurantIdAndNameIn(restaurantId, names);
     }
 
+    /**
+     * Read from the primary, so a page is never cached from a lagging replica.
+     */
     @Override
+    @Transactional(readOnly = true)
     public DomainPage<Dish> getDishesByRestaurant(UUID restaurantId, Optional<Integer> categoryId, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<DishEntity> dishEntities;
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("name"));
+        Slice<DishEntity> dishEntities;
+        long totalElements;
         if (categoryId.isPresent()) {
             dishEntities = repository.findByRestaurantIdAndCategoryIdAndActiveIsTrue(
-                restaurantId.toString(), categoryId.get(), pageRequest);
+                restaurantId, categoryId.get(), pageRequest);
+            totalElements = counterStore.get(CounterStore.activeDishesKey(restaurantId, categoryId.get()));
         } else {
             dishEntities = repository.findByRestaurantIdAndActiveIsTrue(
-                restaurantId.toString(), pageRequest);
+                restaurantId, pageRequest);
+            totalElements = counterStore.get(CounterStore.activeDishesKey(restaurantId));
         }
         
         return DomainPage.<Dish>builder()
@@ -73,12 +176,41 @@ public class DishJpaAdapter implements IDishPersistencePort {
                 .toList())
             .pageNumber(dishEntities.getNumber())
             .pageSize(dishEntities.getSize())
-            .totalElements(dishEntities.getTotalElements())
+            .totalElements(totalElements)
+            .build();
+    }
+
+    /**
+     * Includes deactivated dishes so clients can drop them.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MenuChanges getMenuChanges(UUID restaurantId, long sinceVersion, int size) {
+        return ReplicaRouting.read(() -> findMenuChanges(restaurantId, sinceVersion, size));
+    }
+
+    @Override
+    public long getMenuVersion(UUID restaurantId) {
+        return menuVersionRepository.findById(restaurantId).map(MenuVersionEntity::getVersion).orElse(0L);
+    }
+
+    private MenuChanges findMenuChanges(UUID restaurantId, long sinceVersion, int size) {
+        Slice<DishEntity> changed = repository.findByRestaurantIdAndVersionGreaterThan(
+            restaurantId, sinceVersion, PageRequest.of(0, size, Sort.by("version")));
+        List<DishEntity> content = changed.getContent();
+        long version = content.isEmpty() ? sinceVersion : content.get(content.size() - 1).getVersion();
+
+        return MenuChanges.builder()
+            .dishes(content.stream()
+                .map(mapper::toDish)
+                .toList())
+            .version(version)
+            .hasMore(changed.hasNext())
             .build();
     }
 
     @Override
     public boolean existsById(UUID id) {
-        return repository.existsById(id.toString());
+        return repository.findById(id).isPresent();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.exception.IdempotencyConflictException;
+import com.pragma.plazoleta.domain.exception.IdempotencyKeyReuseException;
+import com.pragma.plazoleta.domain.spi.IIdempotencyPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.IdempotencyKeyEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.IdempotencyKeyId;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IIdempotencyKeyRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The primary key of the reserved row decides which of two concurrent requests proceeds.
+ */
+public class IdempotencyJpaAdapter implements IIdempotencyPersistencePort {
+    private static final String IN_FLIGHT_MESSAGE = "A request with this Idempotency-Key is still being processed";
+    private static final String REUSED_MESSAGE = "This Idempotency-Key was already used for a different request";
+
+    private final IIdempotencyKeyRepository repository;
+    private final Duration window;
+    private final Duration lease;
+    private final Map<IdempotencyKeyId, IdempotencyKeyEntity> recentResponses;
+
+    public IdempotencyJpaAdapter(IIdempotencyKeyRepository repository, Duration window, Duration lease, int cacheSize) {
+        this.repository = repository;
+        this.window = window;
+        this.lease = lease;
+        this.recentResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdempotencyKeyId, IdempotencyKeyEntity> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public Optional<String> reserve(UUID userId, String idempotencyKey, String requestHash) {
+        IdempotencyKeyId id = new IdempotencyKeyId(userId, idempotencyKey);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minus(window);
+        IdempotencyKeyEntity cached = recentResponses.get(id);
+        if (cached != null) {
+            if (cached.getCreatedAt().isAfter(expiredBefore)) {
+                return Optional.of(replay(cached, requestHash));
+            }
+            recentResponses.remove(id);
+        }
+        if (insertReservation(id, requestHash, now)) {
+            return Optional.empty();
+        }
+        IdempotencyKeyEntity stored = repository.findById(id)
+                .orElseThrow(() -> new IdempotencyConflictException(IN_FLIGHT_MESSAGE));
+        LocalDateTime abandonedBefore = now.minus(lease);
+        boolean expired = stored.getCreatedAt().isBefore(expiredBefore)
+                || (stored.getResponse() == null && stored.getCreatedAt().isBefore(abandonedBefore));
+        if (!expired) {
+            String response = replay(stored, requestHash);
+            recentResponses.put(id, stored);
+            return Optional.of(response);
+        }
+        if (repository.takeOver(id, requestHash, now, expiredBefore, abandonedBefore) == 0) {
+            throw new IdempotencyConflictException(IN_FLIGHT_MESSAGE);
+        }
+        return Optional.empty();
+    }
+
+    private boolean insertReservation(IdempotencyKeyId id, String requestHash, LocalDateTime now) {
+        IdempotencyKeyEntity reservation = IdempotencyKeyEntity.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .createdAt(now)
+                .build();
+        try {
+            repository.saveAndFlush(reservation);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Entries stored before request hashes were recorded have none and are replayed for any body.
+     */
+    private String replay(IdempotencyKeyEntity entity, String requestHash) {
+        if (entity.getRequestHash() != null && !entity.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException(REUSED_MESSAGE);
+        }
+        if (entity.getResponse() == null) {
+            throw new IdempotencyConflictException(IN_FLIGHT_MESSAGE);
+        }
+        return entity.getResponse();
+    }
+
+    @Override
+    public void saveResponse(UUID userId, String idempotencyKey, String requestHash, String response) {
+        IdempotencyKeyId id = new IdempotencyKeyId(userId, idempotencyKey);
+        if (repository.complete(id, response) == 0) {
+            return;
+        }
+        recentResponses.put(id, IdempotencyKeyEntity.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .response(response)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public void release(UUID userId, String idempotencyKey) {
+        repository.release(new IdempotencyKeyId(userId, idempotencyKey));
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(window);
+        repository.deleteCreatedBefore(cutoff);
+        synchronized (recentResponses) {
+            recentResponses.values().removeIf(entity -> entity.getCreatedAt().isBefore(cutoff));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.model.Notification;
+import com.pragma.plazoleta.domain.model.NotificationResult;
+import com.pragma.plazoleta.domain.spi.INotificationPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationQueueEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.INotificationQueueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Only a notification that used up its retries is queued again for the same order.
+ */
+@RequiredArgsConstructor
+public class NotificationQueueJpaAdapter implements INotificationPersistencePort {
+    private final INotificationQueueRepository notificationQueueRepository;
+
+    @Override
+    public Optional<NotificationResult> sendMessage(Notification notification) {
+        Optional<NotificationQueueEntity> existing = notificationQueueRepository.findByOrderId(notification.getOrderId());
+        if (existing.isPresent()) {
+            return Optional.of(toResult(requeueIfFailed(existing.get())));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        NotificationQueueEntity entry = NotificationQueueEntity.builder()
+                .orderId(notification.getOrderId())
+                .phoneNumber(notification.getPhoneNumber())
+                .message(notification.getMessage())
+                .status(NotificationStatusEntity.QUEUED)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        try {
+            return Optional.of(toResult(notificationQueueRepository.saveAndFlush(entry)));
+        } catch (DataIntegrityViolationException e) {
+            return notificationQueueRepository.findByOrderId(notification.getOrderId()).map(this::toResult);
+        }
+    }
+
+    private NotificationQueueEntity requeueIfFailed(NotificationQueueEntity entry) {
+        if (entry.getStatus() != NotificationStatusEntity.FAILED) {
+            return entry;
+        }
+        entry.setStatus(NotificationStatusEntity.QUEUED);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(LocalDateTime.now());
+        entry.setLastError(null);
+        return notificationQueueRepository.save(entry);
+    }
+
+    private NotificationResult toResult(NotificationQueueEntity entry) {
+        if (entry.getStatus() == NotificationStatusEntity.SENT) {
+            return new NotificationResult("Notification already sent", entry.getStatus().name(), entry.getSentAt().toString());
+        }
+        return new NotificationResult("Notification queued for delivery", entry.getStatus().name(), entry.getCreatedAt().toString());
+    }
+}
@@ -1,20 +1,24 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
 
+import com.pragma.plazoleta.domain.exception.OrderException;
 import com.pragma.plazoleta.domain.model.Order;
 import com.pragma.plazoleta.domain.model.DomainPage;
-import com.pragma.plazoleta.domain.model.OrderDish;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderCursorPage;
 import com.pragma.plazoleta.domain.model.OrderStatus;
 import com.pragma.plazoleta.domain.spi.IOrderPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
+import com.pragma.plazoleta.infrastructure.output.jpa.datasource.ReplicaRouting;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderEntity;
-import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderDishEntity;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
 import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IOrderEntityMapper;
-import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IOrderDishEntityMapper;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderRepository;
-import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderDishRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,28 +30,33 @@ import java.util.UUID;
 @Component
 @RequiredArgsConstructor
 public class OrderJpaAdapter implements IOrderPersistencePort {
-    
+    private static final String ACTIVE_ORDER_CONSTRAINT = "uk_orders_active_client";
+    private static final UuidBinaryConverter UUID_CONVERTER = new UuidBinaryConverter();
+
     private final IOrderRepository orderRepository;
-    private final IOrderDishRepository orderDishRepository;
     private final IOrderEntityMapper orderEntityMapper;
-    private final IOrderDishEntityMapper orderDishEntityMapper;
+    private final CounterStore counterStore;
 
     @Override
     @Transactional
     public Order saveOrder(Order order) {
         OrderEntity orderEntity = orderEntityMapper.toOrderEntity(order);
-        OrderEntity savedOrderEntity = orderRepository.save(orderEntity);
-        List<OrderDishEntity> orderDishEntities = orderDishEntityMapper.toOrderDishEntityList(order.getOrderDishes());
-        orderDishRepository.saveAll(orderDishEntities);
-        
-        return orderEntityMapper.toOrder(savedOrderEntity);
+        orderEntity.getOrderDishes().forEach(orderDishEntity -> orderDishEntity.setOrder(orderEntity));
+        try {
+            OrderEntity savedOrderEntity = orderRepository.saveAndFlush(orderEntity);
+            counterStore.add(CounterStore.ordersKey(savedOrderEntity.getRestaurantId(), savedOrderEntity.getStatus()), 1);
+            return orderEntityMapper.toOrder(savedOrderEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveOrderViolation(e)) {
+                throw new OrderException("You cannot have more than one active order");
+            }
+            throw e;
+        }
     }
 
-    @Override
-    public List<OrderDish> saveOrderDishes(List<OrderDish> orderDishes) {
-        List<OrderDishEntity> orderDishEntities = orderDishEntityMapper.toOrderDishEntityList(orderDishes);
-        List<OrderDishEntity> savedOrderDishEntities = orderDishRepository.saveAll(orderDishEntities);
-        return orderDishEntityMapper.toOrderDishList(savedOrderDishEntities);
+    private boolean isActiveOrderViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(ACTIVE_ORDER_CONSTRAINT);
     }
 
     @Override
@@ -57,14 +66,19 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
             OrderStatusEntity.IN_PREPARATION,
             OrderStatusEntity.READY
         );
-        return orderRepository.existsByClientIdAndStatusIn(clientId.toString(), activeStatuses);
+        return orderRepository.existsByClientIdAndStatusIn(clientId, activeStatuses);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DomainPage<Order> findByStatusAndRestaurant(OrderStatus status, UUID restaurantId, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
+        return ReplicaRouting.read(() -> findQueuePage(status, restaurantId, page, size));
+    }
+
+    private DomainPage<Order> findQueuePage(OrderStatus status, UUID restaurantId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("date", "id"));
         OrderStatusEntity statusEntity = OrderStatusEntity.valueOf(status.name());        
-        Page<OrderEntity> orderEntities = orderRepository.findByStatusAndRestaurantId(statusEntity, restaurantId.toString(), pageRequest);
+        Slice<OrderEntity> orderEntities = orderRepository.findByStatusAndRestaurantId(statusEntity, restaurantId, pageRequest);
         
         return DomainPage.<Order>builder()
             .content(orderEntities.getContent().stream()
@@ -72,49 +86,111 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
                 .toList())
             .pageNumber(orderEntities.getNumber())
             .pageSize(orderEntities.getSize())
-            .totalElements(orderEntities.getTotalElements())
+            .totalElements(counterStore.get(CounterStore.ordersKey(restaurantId, statusEntity)))
             .build();
     }
 
+    /**
+     * Keyset pagination over (date, id); one extra row tells whether there is a next page.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OrderCursorPage findByStatusAndRestaurantAfter(OrderStatus status, UUID restaurantId, OrderCursor after, int size) {
+        return ReplicaRouting.read(() -> findQueuePageAfter(status, restaurantId, after, size));
+    }
+
+    private OrderCursorPage findQueuePageAfter(OrderStatus status, UUID restaurantId, OrderCursor after, int size) {
+        OrderStatusEntity statusEntity = toStatusEntity(status);
+        Limit limit = Limit.of(size + 1);
+        List<OrderEntity> orderEntities = after == null
+                ? orderRepository.findByStatusAndRestaurantIdOrderByDateAscIdAsc(statusEntity, restaurantId, limit)
+                : orderRepository.findByStatusAndRestaurantIdAfter(statusEntity, restaurantId, after.getDate(), after.getId(), limit);
+        boolean hasNext = orderEntities.size() > size;
+        List<Order> orders = orderEntities.stream()
+                .limit(size)
+                .map(orderEntityMapper::toOrder)
+                .toList();
+        OrderCursor nextCursor = null;
+        if (hasNext) {
+            Order last = orders.get(orders.size() - 1);
+            nextCursor = new OrderCursor(last.getDate(), last.getId());
+        }
+        return OrderCursorPage.builder()
+                .content(orders)
+                .pageSize(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
-    public java.util.Optional<Order> findById(UUID id) {
-        return orderRepository.findById(id.toString())
+    @Transactional(readOnly = true)
+    public Optional<Order> findById(UUID id) {
+        return orderRepository.findById(id)
                 .map(orderEntityMapper::toOrder);
     }
 
     @Override
-    @Transactional
-    public Optional<Order> updateOrderStatusAndChefId(Order order) {
-        OrderEntity orderEntity = orderEntityMapper.toOrderEntity(order);
-        int updatedRows = orderRepository.updateChefId(orderEntity.getId(), orderEntity.getChefId(), orderEntity.getStatus());
-        if (updatedRows == 0) {
-            return Optional.empty();
-        }
-        return orderRepository.findById(orderEntity.getId())
+    public Optional<Order> findHeaderById(UUID id) {
+        return orderRepository.findHeaderById(id)
                 .map(orderEntityMapper::toOrder);
     }
 
+    /**
+     * The updates below only apply while the order is still in expectedStatus.
+     */
     @Override
     @Transactional
-    public Optional<Order> updateOrderStatusAndSecurityPin(Order order) {
-        OrderEntity orderEntity = orderEntityMapper.toOrderEntity(order);
-        int updatedRows = orderRepository.updateSecurityPin(orderEntity.getId(), orderEntity.getSecurityPin(), orderEntity.getStatus());
-        if (updatedRows == 0) {
-            return Optional.empty();
-        }
-        return orderRepository.findById(orderEntity.getId())
-                .map(orderEntityMapper::toOrder);
+    public Optional<Order> updateOrderStatusAndChefId(Order order, OrderStatus expectedStatus) {
+        int updatedRows = orderRepository.updateChefId(order.getId(), order.getChefId(),
+                toStatusEntity(order.getStatus()), toStatusEntity(expectedStatus));
+        return transitioned(order, expectedStatus, updatedRows);
     }
 
     @Override
     @Transactional
-    public Optional<Order> updateOrderStatus(Order order) {
-        OrderEntity orderEntity = orderEntityMapper.toOrderEntity(order);
-        int updatedRows = orderRepository.updateOrderStatus(orderEntity.getId(), orderEntity.getStatus());
+    public Optional<Order> updateOrderStatusAndSecurityPin(Order order, OrderStatus expectedStatus) {
+        int updatedRows = orderRepository.updateSecurityPin(order.getId(), order.getSecurityPin(),
+                toStatusEntity(order.getStatus()), toStatusEntity(expectedStatus));
+        return transitioned(order, expectedStatus, updatedRows);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Order> updateOrderStatus(Order order, OrderStatus expectedStatus) {
+        int updatedRows = orderRepository.updateOrderStatus(order.getId(),
+                toStatusEntity(order.getStatus()), toStatusEntity(expectedStatus));
+        return transitioned(order, expectedStatus, updatedRows);
+    }
+
+    /**
+     * FOR UPDATE SKIP LOCKED: concurrent claims each get a different order.
+     */
+    @Override
+    @Transactional
+    public Optional<Order> claimNextPendingOrder(UUID restaurantId, UUID chefId) {
+        return orderRepository.lockOldestPendingOrder(UUID_CONVERTER.convertToDatabaseColumn(restaurantId))
+                .map(orderEntity -> {
+                    orderEntity.setChefId(chefId);
+                    orderEntity.setStatus(OrderStatusEntity.IN_PREPARATION);
+                    moveCount(restaurantId, OrderStatusEntity.PENDING, OrderStatusEntity.IN_PREPARATION);
+                    return orderEntityMapper.toOrder(orderEntity);
+                });
+    }
+
+    private Optional<Order> transitioned(Order order, OrderStatus expectedStatus, int updatedRows) {
         if (updatedRows == 0) {
             return Optional.empty();
         }
-        return orderRepository.findById(orderEntity.getId())
-                .map(orderEntityMapper::toOrder);
+        moveCount(order.getRestaurantId(), toStatusEntity(expectedStatus), toStatusEntity(order.getStatus()));
+        return Optional.of(order);
+    }
+
+    private void moveCount(UUID restaurantId, OrderStatusEntity from, OrderStatusEntity to) {
+        counterStore.add(CounterStore.ordersKey(restaurantId, from), -1);
+        counterStore.add(CounterStore.ordersKey(restaurantId, to), 1);
+    }
+
+    private OrderStatusEntity toStatusEntity(OrderStatus status) {
+        return OrderStatusEntity.valueOf(status.name());
     }
-} 
\ No newline at end of file
+}
@@ -1,15 +1,18 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.pragma.plazoleta.domain.model.Restaurant;
 import com.pragma.plazoleta.domain.model.DomainPage;
 import com.pragma.plazoleta.domain.spi.IRestaurantPersistencePort;
+import com.pragma.plazoleta.infrastructure.output.jpa.datasource.ReplicaRouting;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.RestaurantEntity;
 import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IRestaurantEntityMapper;
 import com.pragma.plazoleta.infrastructure.output.jpa.repository.IRestaurantRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -19,11 +22,15 @@ import java.util.UUID;
 public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
     private final IRestaurantRepository restaurantRepository;
     private final IRestaurantEntityMapper restaurantEntityMapper;
+    private final CounterStore counterStore;
+    private final Cache<UUID, UUID> restaurantOwnerCache;
 
     @Override
+    @Transactional
     public Restaurant save(Restaurant restaurant) {
         RestaurantEntity entity = restaurantEntityMapper.toRestaurantEntity(restaurant);
         RestaurantEntity saved = restaurantRepository.save(entity);
+        counterStore.add(CounterStore.restaurantsKey(), 1);
         return restaurantEntityMapper.toRestaurant(saved);
     }
 
@@ -39,18 +46,31 @@ public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
 
     @Override
     public Optional<Restaurant> findById(UUID id) {
-        return restaurantRepository.findById(id.toString()).map(restaurantEntityMapper::toRestaurant);
+        return restaurantRepository.findById(id).map(restaurantEntityMapper::toRestaurant);
+    }
+
+    /**
+     * Owners never change, so the id is cached; unknown restaurants are not.
+     */
+    @Override
+    public Optional<UUID> findOwnerIdById(UUID id) {
+        return Optional.ofNullable(restaurantOwnerCache.get(id, key -> restaurantRepository.findOwnerIdById(key).orElse(null)));
     }
 
     @Override
     public boolean existsById(UUID id) {
-        return restaurantRepository.existsById(id.toString());
+        return restaurantRepository.findById(id).isPresent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DomainPage<Restaurant> findAll(int page, int size) {
+        return ReplicaRouting.read(() -> findPage(page, size));
+    }
+
+    private DomainPage<Restaurant> findPage(int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<RestaurantEntity> springPage = restaurantRepository.findAllOrderedByName(pageRequest);
+        Slice<RestaurantEntity> springPage = restaurantRepository.findAllOrderedByName(pageRequest);
         
         return DomainPage.<Restaurant>builder()
             .content(springPage.getContent().stream()
@@ -58,7 +78,7 @@ public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
                 .toList())
             .pageNumber(springPage.getNumber())
             .pageSize(springPage.getSize())
-            .totalElements(springPage.getTotalElements())
+            .totalElements(counterStore.get(CounterStore.restaurantsKey()))
             .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazoleta.application.mapper.ITraceabilityMapper;
+import com.pragma.plazoleta.domain.model.EmployeeAverageTime;
+import com.pragma.plazoleta.domain.model.OrderSummary;
+import com.pragma.plazoleta.domain.model.Traceability;
+import com.pragma.plazoleta.domain.model.TraceabilityGrouped;
+import com.pragma.plazoleta.domain.spi.ITraceCommunicationPort;
+import com.pragma.plazoleta.infrastructure.exception.InfraestructureException;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceOutboxRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Traces are written in the caller's transaction and delivered by TraceOutboxRelay.
+ */
+@RequiredArgsConstructor
+public class TraceOutboxJpaAdapter implements ITraceCommunicationPort {
+    private final ITraceOutboxRepository traceOutboxRepository;
+    private final ITraceabilityMapper traceabilityMapper;
+    private final ObjectMapper objectMapper;
+    private final ITraceCommunicationPort delegate;
+
+    @Override
+    public Optional<Traceability> createTrace(Traceability traceability) {
+        LocalDateTime now = LocalDateTime.now();
+        TraceOutboxEntity entry = TraceOutboxEntity.builder()
+                .orderId(traceability.getOrderId())
+                .payload(toPayload(traceability))
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        traceOutboxRepository.save(entry);
+        return Optional.of(traceability);
+    }
+
+    @Override
+    public List<OrderSummary> getTraceByRestaurantId(UUID restaurantId) {
+        return delegate.getTraceByRestaurantId(restaurantId);
+    }
+
+    @Override
+    public List<Traceability> getTraceByOrderId(UUID id) {
+        return delegate.getTraceByOrderId(id);
+    }
+
+    @Override
+    public List<EmployeeAverageTime> getEmployeeAverageTime(UUID id) {
+        return delegate.getEmployeeAverageTime(id);
+    }
+
+    @Override
+    public List<TraceabilityGrouped> getTraceByClientId(UUID id) {
+        return delegate.getTraceByClientId(id);
+    }
+
+    private String toPayload(Traceability traceability) {
+        try {
+            return objectMapper.writeValueAsString(traceabilityMapper.toTraceabilityRequest(traceability));
+        } catch (JsonProcessingException e) {
+            throw new InfraestructureException("Could not serialize traceability for order " + traceability.getOrderId());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.spi.ITransactionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class TransactionAdapter implements ITransactionPort {
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public <T> T runInTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
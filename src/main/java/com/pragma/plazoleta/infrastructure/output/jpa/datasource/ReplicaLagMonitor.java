@@ -0,0 +1,48 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * A server that reports no replication status counts as up to date.
+ */
+public class ReplicaLagMonitor {
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public void markUnavailable() {
+        replicaUsable = false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT2S}")
+    public void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                replicaUsable = true;
+                return;
+            }
+            long lagSeconds = status.getLong("Seconds_Behind_Source");
+            replicaUsable = !status.wasNull() && lagSeconds <= maxLagSeconds;
+        } catch (SQLException e) {
+            replicaUsable = false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Only queries inside read() within a read-only transaction may go to the replica.
+ */
+public final class ReplicaRouting {
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> T read(Supplier<T> query) {
+        Boolean previous = REPLICA_READ.get();
+        REPLICA_READ.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            REPLICA_READ.set(previous);
+        }
+    }
+
+    static boolean isReplicaRead() {
+        return REPLICA_READ.get();
+    }
+}
@@ -0,0 +1,24 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterEntity {
+    @EmbeddedId
+    private CounterId id;
+
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+}
@@ -0,0 +1,24 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterId implements Serializable {
+
+    @Column(name = "counter_key", length = 100)
+    private String counterKey;
+
+    @Column(name = "slot")
+    private int slot;
+}
@@ -1,19 +1,30 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.entity;
 
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dishes")
 @Table(name = "dishes")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class DishEntity {
+public class DishEntity implements Persistable<UUID> {
     @Id
-    @Column(length = 36)
-    private String id;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Column(nullable = false, length = 100)
     private String name;
@@ -30,9 +41,34 @@ public class DishEntity {
     @Column(name = "category_id", nullable = false)
     private int categoryId;
 
-    @Column(name = "restaurant_id", nullable = false, length = 36)
-    private String restaurantId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "restaurant_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID restaurantId;
 
     @Column(nullable = false)
     private boolean active;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity = true;
+
+    /**
+     * Ids are assigned by the application, so without this save would merge and select every new dish first.
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
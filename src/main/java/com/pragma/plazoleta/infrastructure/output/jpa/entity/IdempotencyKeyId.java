@@ -0,0 +1,28 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyId implements Serializable {
+
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "user_id", columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+}
@@ -0,0 +1,28 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "menu_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuVersionEntity {
+    @Id
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "restaurant_id", columnDefinition = "BINARY(16)")
+    private UUID restaurantId;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,52 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "notification_queue")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationQueueEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "order_id", nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    private UUID orderId;
+
+    @Column(name = "phone_number", nullable = false, length = 13)
+    private String phoneNumber;
+
+    @Column(name = "message", nullable = false, length = 500)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NotificationStatusEntity status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
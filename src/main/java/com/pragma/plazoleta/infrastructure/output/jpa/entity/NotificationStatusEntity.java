@@ -0,0 +1,7 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+public enum NotificationStatusEntity {
+    QUEUED,
+    SENT,
+    FAILED
+}
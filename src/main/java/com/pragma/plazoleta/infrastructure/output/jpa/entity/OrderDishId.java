@@ -1,6 +1,8 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.entity;
 
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.util.UUID;
 
 @Embeddable
 @Data
@@ -16,9 +19,11 @@ import java.io.Serializable;
 @AllArgsConstructor
 public class OrderDishId implements Serializable {
     
-    @Column(name = "order_id", length = 36)
-    private String orderId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "order_id", columnDefinition = "BINARY(16)")
+    private UUID orderId;
     
-    @Column(name = "dish_id", length = 36)
-    private String dishId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "dish_id", columnDefinition = "BINARY(16)")
+    private UUID dishId;
 } 
\ No newline at end of file
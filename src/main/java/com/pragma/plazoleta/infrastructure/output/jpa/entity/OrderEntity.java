@@ -1,27 +1,40 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.entity;
 
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
 @Table(name = "orders")
-@Data
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderEntity {
+public class OrderEntity implements Persistable<UUID> {
     @Id
-    @Column(name = "id", length = 36)
-    private String id;
+    @EqualsAndHashCode.Include
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
 
-    @Column(name = "client_id", length = 36, nullable = false)
-    private String clientId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "client_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID clientId;
 
     @Column(name = "date", nullable = false)
     private LocalDateTime date;
@@ -30,15 +43,37 @@ public class OrderEntity {
     @Column(name = "status", nullable = false)
     private OrderStatusEntity status;
 
-    @Column(name = "chef_id", length = 36)
-    private String chefId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "chef_id", columnDefinition = "BINARY(16)")
+    private UUID chefId;
 
-    @Column(name = "restaurant_id", length = 36, nullable = false)
-    private String restaurantId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "restaurant_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID restaurantId;
 
     @Column(name = "security_pin", length = 6)
     private String securityPin;
 
+    /**
+     * Batch fetched, so a page of orders costs one extra query.
+     */
+    @ToString.Exclude
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderDishEntity> orderDishes;
-} 
\ No newline at end of file
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
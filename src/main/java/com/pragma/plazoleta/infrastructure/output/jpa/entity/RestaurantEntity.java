@@ -1,19 +1,27 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.entity;
 
+import com.pragma.plazoleta.infrastructure.output.jpa.converter.UuidBinaryConverter;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurants")
 @Table(name = "restaurants", uniqueConstraints = {@UniqueConstraint(columnNames = {"name"})})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class RestaurantEntity {
     @Id
-    @Column(length = 36)
-    private String id;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Column(nullable = false, length = 100, unique = true)
     private String name;
@@ -30,6 +38,7 @@ public class RestaurantEntity {
     @Column(name = "logo_url", nullable = false, length = 500)
     private String logoUrl;
 
-    @Column(name = "owner_id", nullable = false, length = 36)
-    private String ownerId;
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "owner_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID ownerId;
 } 
\ No newline at end of file
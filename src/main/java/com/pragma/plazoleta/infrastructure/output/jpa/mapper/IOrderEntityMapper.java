@@ -2,13 +2,18 @@ package com.pragma.plazoleta.infrastructure.output.jpa.mapper;
 
 import com.pragma.plazoleta.domain.model.Order;
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.OrderHeaderView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(componentModel = "spring", uses = {IOrderDishEntityMapper.class}, unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface IOrderEntityMapper {
     
     Order toOrder(OrderEntity orderEntity);
+
+    @Mapping(target = "orderDishes", ignore = true)
+    Order toOrder(OrderHeaderView orderHeaderView);
     
     OrderEntity toOrderEntity(Order order);
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.CounterEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.CounterId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ICounterRepository extends JpaRepository<CounterEntity, CounterId> {
+
+    /**
+     * Declares counters as the only table touched; without it Hibernate assumes a native update
+     * may change anything and clears every second-level cache region.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "counters"))
+    @Query(value = """
+            INSERT INTO counters (counter_key, slot, counter_value) VALUES (:counterKey, :slot, :delta)
+            ON DUPLICATE KEY UPDATE counter_value = counter_value + :delta""", nativeQuery = true)
+    void add(@Param("counterKey") String counterKey, @Param("slot") int slot, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.counterValue), 0) FROM CounterEntity c WHERE c.id.counterKey = :counterKey")
+    long sumByCounterKey(@Param("counterKey") String counterKey);
+}
@@ -1,25 +1,60 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.repository;
 
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.DishEntity;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface IDishRepository extends JpaRepository<DishEntity, String> {
-    boolean existsByNameAndRestaurantId(String name, String restaurantId);
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface IDishRepository extends JpaRepository<DishEntity, UUID> {
+    boolean existsByNameAndRestaurantId(String name, UUID restaurantId);
+
+    @Query("SELECT d.name FROM DishEntity d WHERE d.restaurantId = :restaurantId AND d.name IN :names")
+    List<String> findNamesByRestaurantIdAndNameIn(@Param("restaurantId") UUID restaurantId, @Param("names") Collection<String> names);
+
+    /**
+     * Prices orders, so it bypasses cached copies.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    List<DishEntity> findByIdIn(Collection<UUID> ids);
     
+    /**
+     * Bulk updates evict the dishes region.
+     */
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE DishEntity d SET d.price = :price, d.description = :description WHERE d.id = :id")
-    int updatePriceAndDescription(@Param("id") String id, @Param("price") Integer price, @Param("description") String description);
+    @Query("""
+            UPDATE DishEntity d SET d.price = :price, d.description = :description,
+                d.version = :version, d.updatedAt = :updatedAt
+            WHERE d.id = :id""")
+    int updatePriceAndDescription(@Param("id") UUID id, @Param("price") Integer price, @Param("description") String description,
+                                  @Param("version") long version, @Param("updatedAt") LocalDateTime updatedAt);
     
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE DishEntity d SET d.active = :active WHERE d.id = :id")
-    int updateActive(@Param("id") String id, @Param("active") Boolean active);
+    @Query("""
+            UPDATE DishEntity d SET d.active = :active, d.version = :version, d.updatedAt = :updatedAt
+            WHERE d.id = :id AND d.active <> :active""")
+    int updateActive(@Param("id") UUID id, @Param("active") Boolean active,
+                     @Param("version") long version, @Param("updatedAt") LocalDateTime updatedAt);
     
-    Page<DishEntity> findByRestaurantIdAndCategoryIdAndActiveIsTrue(String restaurantId, Integer categoryId, Pageable pageable);
+    /**
+     * Not put in the second-level cache: pages are cached whole and the feed may come from the replica.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    Slice<DishEntity> findByRestaurantIdAndCategoryIdAndActiveIsTrue(UUID restaurantId, Integer categoryId, Pageable pageable);
     
-    Page<DishEntity> findByRestaurantIdAndActiveIsTrue(String restaurantId, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    Slice<DishEntity> findByRestaurantIdAndActiveIsTrue(UUID restaurantId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    Slice<DishEntity> findByRestaurantIdAndVersionGreaterThan(UUID restaurantId, long version, Pageable pageable);
 } 
\ No newline at end of file
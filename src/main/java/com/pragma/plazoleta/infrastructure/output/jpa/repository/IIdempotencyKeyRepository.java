@@ -0,0 +1,41 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.IdempotencyKeyEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.IdempotencyKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IIdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, IdempotencyKeyId> {
+
+    /**
+     * The condition is re-checked by the update, so only one of two takeovers changes the row.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity i SET i.requestHash = :requestHash, i.response = NULL, i.createdAt = :now "
+            + "WHERE i.id = :id AND (i.createdAt < :expiredBefore OR (i.response IS NULL AND i.createdAt < :abandonedBefore))")
+    int takeOver(@Param("id") IdempotencyKeyId id,
+                 @Param("requestHash") String requestHash,
+                 @Param("now") LocalDateTime now,
+                 @Param("expiredBefore") LocalDateTime expiredBefore,
+                 @Param("abandonedBefore") LocalDateTime abandonedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity i SET i.response = :response WHERE i.id = :id AND i.response IS NULL")
+    int complete(@Param("id") IdempotencyKeyId id, @Param("response") String response);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity i WHERE i.id = :id AND i.response IS NULL")
+    int release(@Param("id") IdempotencyKeyId id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity i WHERE i.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
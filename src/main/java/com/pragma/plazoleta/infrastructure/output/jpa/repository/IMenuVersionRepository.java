@@ -0,0 +1,29 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.MenuVersionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface IMenuVersionRepository extends JpaRepository<MenuVersionEntity, UUID> {
+
+    /**
+     * Locks the version row of the restaurant until the transaction ends, which orders concurrent
+     * dish writes of the same restaurant.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "menu_versions"))
+    @Query(value = """
+            INSERT INTO menu_versions (restaurant_id, version) VALUES (:restaurantId, :delta)
+            ON DUPLICATE KEY UPDATE version = version + :delta""", nativeQuery = true)
+    void increment(@Param("restaurantId") byte[] restaurantId, @Param("delta") long delta);
+
+    @Query("SELECT m.version FROM MenuVersionEntity m WHERE m.restaurantId = :restaurantId")
+    long findVersionByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
@@ -0,0 +1,43 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationQueueEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationStatusEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface INotificationQueueRepository extends JpaRepository<NotificationQueueEntity, Long> {
+
+    Optional<NotificationQueueEntity> findByOrderId(UUID orderId);
+
+    @Query(value = """
+            SELECT n.* FROM notification_queue n
+            WHERE n.status = 'QUEUED' AND n.next_attempt_at <= :now
+            ORDER BY n.id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<NotificationQueueEntity> lockDueEntries(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("UPDATE NotificationQueueEntity n SET n.nextAttemptAt = :leaseUntil WHERE n.id IN :ids")
+    int extendLease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE NotificationQueueEntity n SET n.status = :status, n.sentAt = :sentAt WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") NotificationStatusEntity status, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("""
+            UPDATE NotificationQueueEntity n
+            SET n.attempts = n.attempts + 1, n.status = :status, n.nextAttemptAt = :nextAttemptAt, n.lastError = :lastError
+            WHERE n.id = :id""")
+    int registerFailure(@Param("id") Long id, @Param("status") NotificationStatusEntity status,
+                        @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+}
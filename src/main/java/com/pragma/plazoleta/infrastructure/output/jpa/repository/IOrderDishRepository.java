@@ -5,8 +5,9 @@ import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderDishId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface IOrderDishRepository extends JpaRepository<OrderDishEntity, OrderDishId> {
     
-    List<OrderDishEntity> findByOrderId(String orderId);
+    List<OrderDishEntity> findByOrderId(UUID orderId);
 } 
\ No newline at end of file
@@ -6,29 +6,56 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
-public interface IOrderRepository extends JpaRepository<OrderEntity, String> {
+public interface IOrderRepository extends JpaRepository<OrderEntity, UUID> {
     
     @Query("SELECT o FROM OrderEntity o WHERE o.clientId = :clientId AND o.status IN (:statuses)")
-    List<OrderEntity> findByClientIdAndStatusIn(@Param("clientId") String clientId, @Param("statuses") List<OrderStatusEntity> statuses);
+    List<OrderEntity> findByClientIdAndStatusIn(@Param("clientId") UUID clientId, @Param("statuses") List<OrderStatusEntity> statuses);
     
-    boolean existsByClientIdAndStatusIn(String clientId, List<OrderStatusEntity> statuses);
+    boolean existsByClientIdAndStatusIn(UUID clientId, List<OrderStatusEntity> statuses);
 
-    Page<OrderEntity> findByStatusAndRestaurantId(OrderStatusEntity status, String restaurantId, Pageable pageable);
+    Optional<OrderHeaderView> findHeaderById(UUID id);
+
+    Slice<OrderEntity> findByStatusAndRestaurantId(OrderStatusEntity status, UUID restaurantId, Pageable pageable);
+
+    List<OrderEntity> findByStatusAndRestaurantIdOrderByDateAscIdAsc(OrderStatusEntity status, UUID restaurantId, Limit limit);
+
+    @Query("""
+            SELECT o FROM OrderEntity o
+            WHERE o.restaurantId = :restaurantId AND o.status = :status
+              AND (o.date > :date OR (o.date = :date AND o.id > :id))
+            ORDER BY o.date, o.id""")
+    List<OrderEntity> findByStatusAndRestaurantIdAfter(@Param("status") OrderStatusEntity status, @Param("restaurantId") UUID restaurantId,
+                                                       @Param("date") LocalDateTime date, @Param("id") UUID id, Limit limit);
+
+    @Query(value = """
+            SELECT o.* FROM orders o
+            WHERE o.restaurant_id = :restaurantId AND o.status = 'PENDING'
+            ORDER BY o.date, o.id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    Optional<OrderEntity> lockOldestPendingOrder(@Param("restaurantId") byte[] restaurantId);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE OrderEntity o SET o.chefId = :chefId, o.status = :status WHERE o.id = :id")
-    int updateChefId(@Param("id") String id, @Param("chefId") String chefId, @Param("status") OrderStatusEntity status);
+    @Query("UPDATE OrderEntity o SET o.chefId = :chefId, o.status = :status WHERE o.id = :id AND o.status = :expectedStatus")
+    int updateChefId(@Param("id") UUID id, @Param("chefId") UUID chefId, @Param("status") OrderStatusEntity status,
+                     @Param("expectedStatus") OrderStatusEntity expectedStatus);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE OrderEntity o SET o.securityPin = :securityPin, o.status = :status WHERE o.id = :id")
-    int updateSecurityPin(@Param("id") String id, @Param("securityPin") String securityPin, @Param("status") OrderStatusEntity status);
+    @Query("UPDATE OrderEntity o SET o.securityPin = :securityPin, o.status = :status WHERE o.id = :id AND o.status = :expectedStatus")
+    int updateSecurityPin(@Param("id") UUID id, @Param("securityPin") String securityPin, @Param("status") OrderStatusEntity status,
+                          @Param("expectedStatus") OrderStatusEntity expectedStatus);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE OrderEntity o SET o.status = :status WHERE o.id = :id")
-    int updateOrderStatus(@Param("id") String id, @Param("status") OrderStatusEntity status);
+    @Query("UPDATE OrderEntity o SET o.status = :status WHERE o.id = :id AND o.status = :expectedStatus")
+    int updateOrderStatus(@Param("id") UUID id, @Param("status") OrderStatusEntity status,
+                          @Param("expectedStatus") OrderStatusEntity expectedStatus);
 } 
\ No newline at end of file
@@ -1,15 +1,26 @@
 package com.pragma.plazoleta.infrastructure.output.jpa.repository;
 
 import com.pragma.plazoleta.infrastructure.output.jpa.entity.RestaurantEntity;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface IRestaurantRepository extends JpaRepository<RestaurantEntity, String> {
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IRestaurantRepository extends JpaRepository<RestaurantEntity, UUID> {
     boolean existsByNit(long nit);
     boolean existsByName(String name);
     
     @Query("SELECT r FROM RestaurantEntity r ORDER BY r.name ASC")
-    Page<RestaurantEntity> findAllOrderedByName(Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    Slice<RestaurantEntity> findAllOrderedByName(Pageable pageable);
+
+    @Query("SELECT r.ownerId FROM RestaurantEntity r WHERE r.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
 } 
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ITraceOutboxRepository extends JpaRepository<TraceOutboxEntity, Long> {
+
+    /**
+     * Locks the next due entries, skipping rows already claimed by another instance. Only the
+     * oldest pending entry of each order is returned so traces reach ms-trace in order.
+     */
+    @Query(value = """
+            SELECT t.* FROM trace_outbox t
+            WHERE t.attempts < :maxAttempts
+              AND t.next_attempt_at <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM trace_outbox p
+                  WHERE p.order_id = t.order_id AND p.id < t.id AND p.attempts < :maxAttempts)
+            ORDER BY t.id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<TraceOutboxEntity> lockDueEntries(@Param("now") LocalDateTime now,
+                                           @Param("maxAttempts") int maxAttempts,
+                                           @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("UPDATE TraceOutboxEntity t SET t.nextAttemptAt = :leaseUntil WHERE t.id IN :ids")
+    int extendLease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE TraceOutboxEntity t SET t.attempts = t.attempts + 1, t.nextAttemptAt = :nextAttemptAt, t.lastError = :lastError WHERE t.id = :id")
+    int registerFailure(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+}
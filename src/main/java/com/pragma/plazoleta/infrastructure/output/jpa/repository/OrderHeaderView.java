@@ -0,0 +1,16 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface OrderHeaderView {
+    UUID getId();
+    UUID getClientId();
+    LocalDateTime getDate();
+    OrderStatusEntity getStatus();
+    UUID getChefId();
+    UUID getRestaurantId();
+    String getSecurityPin();
+}
@@ -3,25 +3,16 @@ package com.pragma.plazoleta.infrastructure.output.rest;
 import feign.RequestInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
-import jakarta.servlet.http.HttpServletRequest;
 
 @Configuration
 public class FeignClientConfig {
     @Bean
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
-            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-            if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
-                HttpServletRequest request = servletRequestAttributes.getRequest();
-                String authHeader = request.getHeader("Authorization");
-                if (authHeader != null && !authHeader.isEmpty()) {
-                    requestTemplate.header("Authorization", authHeader);
-                }
+            String authHeader = ForwardedAuthorization.current();
+            if (authHeader != null && !authHeader.isEmpty()) {
+                requestTemplate.header("Authorization", authHeader);
             }
         };
     }
-} 
\ No newline at end of file
+}
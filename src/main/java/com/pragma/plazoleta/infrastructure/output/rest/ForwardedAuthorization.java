@@ -0,0 +1,45 @@
+package com.pragma.plazoleta.infrastructure.output.rest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Carries the header value, not the request, which may be recycled before a pool task finishes.
+ */
+public final class ForwardedAuthorization {
+    private static final ThreadLocal<String> HEADER = new ThreadLocal<>();
+
+    private ForwardedAuthorization() {
+    }
+
+    /**
+     * The header forwarded to this thread, or else the one of the request bound to it.
+     */
+    public static String current() {
+        String forwarded = HEADER.get();
+        return forwarded != null ? forwarded : fromCurrentRequest();
+    }
+
+    public static String fromCurrentRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            HttpServletRequest request = servletRequestAttributes.getRequest();
+            return request.getHeader("Authorization");
+        }
+        return null;
+    }
+
+    public static String get() {
+        return HEADER.get();
+    }
+
+    public static void set(String authorization) {
+        if (authorization == null) {
+            HEADER.remove();
+        } else {
+            HEADER.set(authorization);
+        }
+    }
+}
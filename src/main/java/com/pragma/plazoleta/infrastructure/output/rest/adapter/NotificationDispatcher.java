@@ -0,0 +1,145 @@
+package com.pragma.plazoleta.infrastructure.output.rest.adapter;
+
+import com.pragma.plazoleta.application.dto.request.NotificationRequest;
+import com.pragma.plazoleta.infrastructure.exception.InfraestructureException;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationQueueEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.INotificationQueueRepository;
+import com.pragma.plazoleta.infrastructure.output.rest.client.NotificationFeignClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Claims due entries with FOR UPDATE SKIP LOCKED and leases them for one client timeout per round
+ * of concurrency sends, plus one.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final INotificationQueueRepository notificationQueueRepository;
+    private final NotificationFeignClient notificationFeignClient;
+    private final Executor dispatchExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final String authorization;
+    private final Counter failedEntries;
+
+    public NotificationDispatcher(INotificationQueueRepository notificationQueueRepository,
+                                  NotificationFeignClient notificationFeignClient,
+                                  @Qualifier("notificationDispatchExecutor") Executor dispatchExecutor,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${notification.dispatch.batch-size:20}") int batchSize,
+                                  @Value("${notification.dispatch.concurrency:4}") int concurrency,
+                                  @Value("${notification.dispatch.max-attempts:5}") int maxAttempts,
+                                  @Value("${feign.client.config.default.connectTimeout:5000}") long connectTimeoutMillis,
+                                  @Value("${feign.client.config.default.readTimeout:5000}") long readTimeoutMillis,
+                                  @Value("${notification.dispatch.initial-backoff:PT5S}") Duration initialBackoff,
+                                  @Value("${notification.dispatch.max-backoff:PT5M}") Duration maxBackoff,
+                                  @Value("${ms-notification.service-token:}") String serviceToken,
+                                  MeterRegistry meterRegistry) {
+        if (serviceToken.isBlank()) {
+            throw new InfraestructureException("ms-notification.service-token must be set to deliver notifications");
+        }
+        this.notificationQueueRepository = notificationQueueRepository;
+        this.notificationFeignClient = notificationFeignClient;
+        this.dispatchExecutor = dispatchExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        int rounds = (batchSize + concurrency - 1) / concurrency;
+        this.lease = Duration.ofMillis(connectTimeoutMillis + readTimeoutMillis).multipliedBy(rounds + 1L);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.authorization = "Bearer " + serviceToken;
+        this.failedEntries = Counter.builder("notification.queue.failed")
+                .description("Queued notifications that used up their delivery attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dispatch.interval:PT1S}")
+    public void dispatch() {
+        List<NotificationQueueEntity> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+        Queue<Long> sent = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] deliveries = batch.stream()
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    if (deliver(entry)) {
+                        sent.add(entry.getId());
+                    }
+                }, dispatchExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(deliveries).join();
+        if (!sent.isEmpty()) {
+            List<Long> sentIds = new ArrayList<>(sent);
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationQueueRepository.markSent(sentIds, NotificationStatusEntity.SENT, LocalDateTime.now()));
+        }
+    }
+
+    private List<NotificationQueueEntity> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationQueueEntity> entries = notificationQueueRepository.lockDueEntries(now, batchSize);
+            if (!entries.isEmpty()) {
+                notificationQueueRepository.extendLease(entries.stream().map(NotificationQueueEntity::getId).toList(), now.plus(lease));
+            }
+            return entries;
+        });
+    }
+
+    private boolean deliver(NotificationQueueEntity entry) {
+        try {
+            NotificationRequest request = NotificationRequest.builder()
+                    .message(entry.getMessage())
+                    .phoneNumber(entry.getPhoneNumber())
+                    .build();
+            notificationFeignClient.sendNotification(authorization, request);
+            return true;
+        } catch (Exception e) {
+            int attempts = entry.getAttempts() + 1;
+            NotificationStatusEntity status = attempts >= maxAttempts ? NotificationStatusEntity.FAILED : NotificationStatusEntity.QUEUED;
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(entry.getAttempts()));
+            transactionTemplate.executeWithoutResult(transactionStatus ->
+                    notificationQueueRepository.registerFailure(entry.getId(), status, nextAttemptAt, truncate(e.toString())));
+            if (status == NotificationStatusEntity.FAILED) {
+                failedEntries.increment();
+                log.error("Notification {} for order {} failed {} times and was marked FAILED",
+                        entry.getId(), entry.getOrderId(), attempts, e);
+            }
+            return false;
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,154 @@
+package com.pragma.plazoleta.infrastructure.output.rest.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazoleta.application.dto.request.TraceabilityRequest;
+import com.pragma.plazoleta.domain.spi.IUserRoleValidationPort;
+import com.pragma.plazoleta.infrastructure.exception.InfraestructureException;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceOutboxRepository;
+import com.pragma.plazoleta.infrastructure.output.rest.ForwardedAuthorization;
+import com.pragma.plazoleta.infrastructure.output.rest.client.TraceFeignClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims due entries with FOR UPDATE SKIP LOCKED and leases them for two client timeouts per
+ * entry, plus one: entries are sent one after another and may need an ms-user lookup first.
+ */
+@Slf4j
+@Component
+public class TraceOutboxRelay {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ITraceOutboxRepository traceOutboxRepository;
+    private final TraceFeignClient traceFeignClient;
+    private final IUserRoleValidationPort userRoleValidationPort;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final String authorization;
+    private final String userServiceAuthorization;
+    private final Counter deadEntries;
+
+    public TraceOutboxRelay(ITraceOutboxRepository traceOutboxRepository,
+                            TraceFeignClient traceFeignClient,
+                            IUserRoleValidationPort userRoleValidationPort,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${trace.outbox.batch-size:10}") int batchSize,
+                            @Value("${trace.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${feign.client.config.default.connectTimeout:5000}") long connectTimeoutMillis,
+                            @Value("${feign.client.config.default.readTimeout:5000}") long readTimeoutMillis,
+                            @Value("${trace.outbox.initial-backoff:PT2S}") Duration initialBackoff,
+                            @Value("${trace.outbox.max-backoff:PT5M}") Duration maxBackoff,
+                            @Value("${ms-trace.service-token:}") String serviceToken,
+                            @Value("${ms-user.service-token:}") String userServiceToken,
+                            MeterRegistry meterRegistry) {
+        if (serviceToken.isBlank()) {
+            throw new InfraestructureException("ms-trace.service-token must be set to relay traces to ms-trace");
+        }
+        if (userServiceToken.isBlank()) {
+            throw new InfraestructureException("ms-user.service-token must be set to resolve client emails of relayed traces");
+        }
+        this.traceOutboxRepository = traceOutboxRepository;
+        this.traceFeignClient = traceFeignClient;
+        this.userRoleValidationPort = userRoleValidationPort;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(connectTimeoutMillis + readTimeoutMillis).multipliedBy(2L * batchSize + 1);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.authorization = "Bearer " + serviceToken;
+        this.userServiceAuthorization = "Bearer " + userServiceToken;
+        this.deadEntries = Counter.builder("trace.outbox.dead")
+                .description("Trace outbox entries that used up their delivery attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${trace.outbox.relay-interval:PT1S}")
+    public void relay() {
+        List<TraceOutboxEntity> batch;
+        do {
+            batch = claimBatch();
+            List<Long> delivered = new ArrayList<>();
+            for (TraceOutboxEntity entry : batch) {
+                if (deliver(entry)) {
+                    delivered.add(entry.getId());
+                }
+            }
+            if (!delivered.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> traceOutboxRepository.deleteAllByIdInBatch(delivered));
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private List<TraceOutboxEntity> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<TraceOutboxEntity> entries = traceOutboxRepository.lockDueEntries(now, maxAttempts, batchSize);
+            if (!entries.isEmpty()) {
+                traceOutboxRepository.extendLease(entries.stream().map(TraceOutboxEntity::getId).toList(), now.plus(lease));
+            }
+            return entries;
+        });
+    }
+
+    private boolean deliver(TraceOutboxEntity entry) {
+        try {
+            TraceabilityRequest request = objectMapper.readValue(entry.getPayload(), TraceabilityRequest.class);
+            if (request.getClientEmail() == null) {
+                request.setClientEmail(resolveClientEmail(request.getClientId()));
+            }
+            traceFeignClient.createTrace(authorization, request);
+            return true;
+        } catch (Exception e) {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(entry.getAttempts()));
+            transactionTemplate.executeWithoutResult(status ->
+                    traceOutboxRepository.registerFailure(entry.getId(), nextAttemptAt, truncate(e.toString())));
+            if (entry.getAttempts() + 1 >= maxAttempts) {
+                deadEntries.increment();
+                log.error("Trace outbox entry {} for order {} failed {} times and will not be retried",
+                        entry.getId(), entry.getOrderId(), maxAttempts, e);
+            }
+            return false;
+        }
+    }
+
+    private String resolveClientEmail(String clientId) {
+        String previousAuthorization = ForwardedAuthorization.get();
+        ForwardedAuthorization.set(userServiceAuthorization);
+        try {
+            return userRoleValidationPort.getEmailByUserId(UUID.fromString(clientId))
+                    .orElseThrow(() -> new InfraestructureException("Client email not found for user " + clientId));
+        } finally {
+            ForwardedAuthorization.set(previousAuthorization);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
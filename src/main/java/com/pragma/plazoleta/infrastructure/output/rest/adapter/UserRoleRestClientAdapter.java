@@ -1,5 +1,6 @@
 package com.pragma.plazoleta.infrastructure.output.rest.adapter;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.pragma.plazoleta.application.dto.response.RoleResponse;
 import com.pragma.plazoleta.application.dto.response.UserResponse;
 import com.pragma.plazoleta.domain.spi.IUserRoleValidationPort;
@@ -9,22 +10,27 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.stereotype.Component;
 
-@Component
+/**
+ * Employee memberships are loaded from ms-user, never from the profile cache, so the membership
+ * ttl bounds how long a reassigned employee keeps access.
+ */
 @RequiredArgsConstructor
 public class UserRoleRestClientAdapter implements IUserRoleValidationPort {
 
     private final UserFeignClient userFeignClient;
+    private final Cache<String, UserResponse> userProfileCache;
+    private final Cache<String, RoleResponse> roleCache;
+    private final Cache<UUID, String> employeeRestaurantCache;
 
     @Override
     public Optional<String> getRoleNameByUserId(UUID userId) {
         try {
-            UserResponse userResponse = userFeignClient.getUserById(userId.toString());
+            UserResponse userResponse = getUser(userId);
             if (userResponse == null || userResponse.getRoleId() == null || userResponse.getRoleId().isEmpty()) {
                 return Optional.empty();
             }
-            RoleResponse roleResponse = userFeignClient.getRoleById(userResponse.getRoleId());
+            RoleResponse roleResponse = roleCache.get(userResponse.getRoleId(), userFeignClient::getRoleById);
             if (roleResponse == null || roleResponse.getName() == null || roleResponse.getName().isEmpty()) {
                 return Optional.empty();
             }
@@ -37,11 +43,14 @@ public class UserRoleRestClientAdapter implements IUserRoleValidationPort {
     @Override
     public Optional<String> getRestaurantIdByUserId(UUID userId) {
         try {
-            UserResponse userResponse = userFeignClient.getUserById(userId.toString());
-            if (userResponse == null || userResponse.getRestaurantId() == null) {
-                return Optional.empty();
-            }
-            return Optional.of(userResponse.getRestaurantId());
+            return Optional.ofNullable(employeeRestaurantCache.get(userId, key -> {
+                UserResponse userResponse = userFeignClient.getUserById(key.toString());
+                if (userResponse == null) {
+                    return null;
+                }
+                userProfileCache.put(key.toString(), userResponse);
+                return userResponse.getRestaurantId();
+            }));
         } catch (Exception ex) {
             return Optional.empty();
         }
@@ -50,7 +59,7 @@ public class UserRoleRestClientAdapter implements IUserRoleValidationPort {
     @Override
     public Optional<String> getPhoneNumberByUserId(UUID userId) {
         try {
-            UserResponse userResponse = userFeignClient.getUserById(userId.toString());
+            UserResponse userResponse = getUser(userId);
             if (userResponse == null || userResponse.getPhone() == null) {
                 return Optional.empty();
             }
@@ -63,7 +72,7 @@ public class UserRoleRestClientAdapter implements IUserRoleValidationPort {
     @Override
     public Optional<String> getEmailByUserId(UUID userId) {
         try {
-            UserResponse userResponse = userFeignClient.getUserById(userId.toString());
+            UserResponse userResponse = getUser(userId);
             if (userResponse == null || userResponse.getEmail() == null) {
                 return Optional.empty();
             }
@@ -72,4 +81,8 @@ public class UserRoleRestClientAdapter implements IUserRoleValidationPort {
             return Optional.empty();
         }
     }
-} 
\ No newline at end of file
+
+    private UserResponse getUser(UUID userId) {
+        return userProfileCache.get(userId.toString(), userFeignClient::getUserById);
+    }
+}
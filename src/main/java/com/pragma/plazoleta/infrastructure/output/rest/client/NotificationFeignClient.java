@@ -5,11 +5,17 @@ import com.pragma.plazoleta.infrastructure.output.rest.FeignClientConfig;
 import com.pragma.plazoleta.application.dto.request.NotificationRequest;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "ms-notification", url = "${ms-notification.url}", configuration = FeignClientConfig.class)
 public interface NotificationFeignClient {
     @PostMapping("/notification/send")
     NotificationResponse sendNotification(@RequestBody NotificationRequest notificationRequest);
+
+    @PostMapping("/notification/send")
+    NotificationResponse sendNotification(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                          @RequestBody NotificationRequest notificationRequest);
 } 
\ No newline at end of file
@@ -9,16 +9,22 @@ import com.pragma.plazoleta.infrastructure.output.rest.FeignClientConfig;
 
 import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "ms-trace", url = "${ms-trace.url}", configuration = FeignClientConfig.class)
 public interface TraceFeignClient {
     @PostMapping("/traceability")
     TraceabilityResponse createTrace(@RequestBody TraceabilityRequest traceabilityRequest);
 
+    @PostMapping("/traceability")
+    TraceabilityResponse createTrace(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                     @RequestBody TraceabilityRequest traceabilityRequest);
+
     @GetMapping("/traceability/restaurant/{restaurantId}")
     List<OrderSummaryResponse> getTraceByRestaurantId(@PathVariable("restaurantId") String restaurantId);
 
@@ -0,0 +1,16 @@
+package com.pragma.plazoleta.infrastructure.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private final UUID userId;
+    private final String role;
+    private final String subject;
+    private final Instant expiresAt;
+}
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BINARY(16) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    response TEXT NOT NULL,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key),
+    INDEX idx_idempotency_keys_created_at (created_at)
+);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS trace_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id BINARY(16) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME NOT NULL,
+    INDEX idx_trace_outbox_due (next_attempt_at),
+    INDEX idx_trace_outbox_order (order_id, id)
+);
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS notification_queue (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id BINARY(16) NOT NULL,
+    phone_number VARCHAR(13) NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME NOT NULL,
+    sent_at DATETIME,
+    CONSTRAINT uk_notification_queue_order UNIQUE (order_id),
+    INDEX idx_notification_queue_due (status, next_attempt_at)
+);
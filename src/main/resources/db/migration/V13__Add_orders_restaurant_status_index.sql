@@ -0,0 +1,3 @@
+-- Lets the claim query lock only the oldest pending order of a restaurant instead of
+-- every row of the restaurant it scans.
+CREATE INDEX idx_orders_restaurant_status_date ON orders (restaurant_id, status, date);
@@ -0,0 +1,28 @@
+-- Striped row counts used for paged totals; a counter's value is the sum of its slots.
+CREATE TABLE IF NOT EXISTS counters (
+    counter_key VARCHAR(100) NOT NULL,
+    slot TINYINT NOT NULL,
+    counter_value BIGINT NOT NULL,
+    PRIMARY KEY (counter_key, slot)
+);
+
+INSERT INTO counters (counter_key, slot, counter_value)
+SELECT CONCAT('orders:', BIN_TO_UUID(restaurant_id), ':', status), 0, COUNT(*)
+FROM orders
+GROUP BY restaurant_id, status;
+
+INSERT INTO counters (counter_key, slot, counter_value)
+SELECT CONCAT('dishes:', BIN_TO_UUID(restaurant_id)), 0, COUNT(*)
+FROM dishes
+WHERE active = TRUE
+GROUP BY restaurant_id;
+
+INSERT INTO counters (counter_key, slot, counter_value)
+SELECT CONCAT('dishes:', BIN_TO_UUID(restaurant_id), ':', category_id), 0, COUNT(*)
+FROM dishes
+WHERE active = TRUE
+GROUP BY restaurant_id, category_id;
+
+INSERT INTO counters (counter_key, slot, counter_value)
+SELECT 'restaurants', 0, COUNT(*)
+FROM restaurants;
@@ -0,0 +1,12 @@
+-- Indexes for the repository queries that no primary or unique key serves.
+-- InnoDB appends the primary key to every secondary index, so idx_orders_restaurant_status_date
+-- from V13 already covers the (date, id) keyset order of the kitchen queue.
+
+-- existsByClientIdAndStatusIn / findByClientIdAndStatusIn
+CREATE INDEX idx_orders_client_status ON orders (client_id, status);
+
+-- Full menu: restaurant_id = ? AND active ORDER BY name
+CREATE INDEX idx_dishes_restaurant_active_name ON dishes (restaurant_id, active, name);
+
+-- Menu of one category: restaurant_id = ? AND active AND category_id = ? ORDER BY name
+CREATE INDEX idx_dishes_restaurant_active_category_name ON dishes (restaurant_id, active, category_id, name);
@@ -0,0 +1,23 @@
+-- Row versions for the delta menu sync. Each dish write takes the next version of its restaurant
+-- from menu_versions. The upsert keeps that row locked until commit, so the versions of one
+-- restaurant commit in order and a client that has seen version N never misses a later change.
+CREATE TABLE menu_versions (
+    restaurant_id BINARY(16) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+ALTER TABLE dishes
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- Existing dishes get versions 1..n within their restaurant, so a sync from version 0 returns them all
+UPDATE dishes d
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY restaurant_id ORDER BY id) AS row_version FROM dishes) numbered
+    ON numbered.id = d.id
+SET d.version = numbered.row_version;
+
+INSERT INTO menu_versions (restaurant_id, version)
+SELECT restaurant_id, COUNT(*) FROM dishes GROUP BY restaurant_id;
+
+-- findByRestaurantIdAndVersionGreaterThan: restaurant_id = ? AND version > ? ORDER BY version
+CREATE INDEX idx_dishes_restaurant_version ON dishes (restaurant_id, version);
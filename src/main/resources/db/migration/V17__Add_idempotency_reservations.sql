@@ -0,0 +1,6 @@
+-- Keys are reserved before the order is created: a row without a response is a request still in
+-- flight. The hash of the request body detects a key reused for a different request; rows stored
+-- before this migration have none and are replayed as before.
+ALTER TABLE idempotency_keys
+    ADD COLUMN request_hash CHAR(64) NULL AFTER idempotency_key,
+    MODIFY COLUMN response TEXT NULL;
@@ -0,0 +1,7 @@
+ALTER TABLE orders
+    ADD COLUMN active_client_id CHAR(36)
+        GENERATED ALWAYS AS (
+            CASE WHEN status IN ('PENDING', 'IN_PREPARATION', 'READY') THEN client_id END
+        ) STORED;
+
+CREATE UNIQUE INDEX uk_orders_active_client ON orders (active_client_id);
@@ -0,0 +1,141 @@
+-- Moves every UUID column from CHAR(36) to BINARY(16).
+-- UUID_TO_BIN is used without the swap flag so the bytes match UuidBinaryConverter
+-- and time-ordered (v7) identifiers keep their insertion order in the index.
+--
+-- This is an offline conversion, by decision: the upgrade takes downtime instead of being
+-- split into add-columns, dual-write, batched backfill and swap releases. Stop every instance
+-- of the previous release before it runs. Nothing dual-writes the binary columns, so rows
+-- written between the backfill and the swap would be lost, and the column type changes copy
+-- orders, orders_dishes, dishes and restaurants under lock.
+
+-- Constraints over the CHAR(36) columns. V3, V4 and V5 left them unnamed, so the names the
+-- server generated are looked up instead of assumed.
+SET @drop_constraints = (
+    SELECT CONCAT('ALTER TABLE orders_dishes ',
+                  GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+    FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'orders_dishes'
+      AND REFERENCED_TABLE_NAME IN ('orders', 'dishes'));
+PREPARE drop_constraints FROM @drop_constraints;
+EXECUTE drop_constraints;
+DEALLOCATE PREPARE drop_constraints;
+
+SET @drop_constraints = (
+    SELECT CONCAT('ALTER TABLE orders ',
+                  GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+    FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'orders'
+      AND REFERENCED_TABLE_NAME = 'restaurants');
+PREPARE drop_constraints FROM @drop_constraints;
+EXECUTE drop_constraints;
+DEALLOCATE PREPARE drop_constraints;
+
+SET @drop_constraints = (
+    SELECT CONCAT('ALTER TABLE dishes ',
+                  GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+    FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'dishes'
+      AND REFERENCED_TABLE_NAME = 'restaurants');
+PREPARE drop_constraints FROM @drop_constraints;
+EXECUTE drop_constraints;
+DEALLOCATE PREPARE drop_constraints;
+
+-- The unnamed UNIQUE (name, restaurant_id) from V3
+SET @drop_constraints = (
+    SELECT CONCAT('ALTER TABLE dishes DROP INDEX `', INDEX_NAME, '`')
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'dishes'
+      AND NON_UNIQUE = 0
+      AND INDEX_NAME <> 'PRIMARY'
+    GROUP BY INDEX_NAME
+    HAVING GROUP_CONCAT(COLUMN_NAME ORDER BY SEQ_IN_INDEX) = 'name,restaurant_id');
+PREPARE drop_constraints FROM @drop_constraints;
+EXECUTE drop_constraints;
+DEALLOCATE PREPARE drop_constraints;
+
+ALTER TABLE orders DROP INDEX uk_orders_active_client;
+ALTER TABLE orders DROP COLUMN active_client_id;
+
+-- Expand
+ALTER TABLE restaurants
+    ADD COLUMN id_bin BINARY(16),
+    ADD COLUMN owner_id_bin BINARY(16),
+    ALGORITHM = INSTANT;
+
+ALTER TABLE dishes
+    ADD COLUMN id_bin BINARY(16),
+    ADD COLUMN restaurant_id_bin BINARY(16),
+    ALGORITHM = INSTANT;
+
+ALTER TABLE orders
+    ADD COLUMN id_bin BINARY(16),
+    ADD COLUMN client_id_bin BINARY(16),
+    ADD COLUMN chef_id_bin BINARY(16),
+    ADD COLUMN restaurant_id_bin BINARY(16),
+    ALGORITHM = INSTANT;
+
+ALTER TABLE orders_dishes
+    ADD COLUMN order_id_bin BINARY(16),
+    ADD COLUMN dish_id_bin BINARY(16),
+    ALGORITHM = INSTANT;
+
+-- Backfill, in one pass since no writes run during the window
+UPDATE restaurants SET id_bin = UUID_TO_BIN(id), owner_id_bin = UUID_TO_BIN(owner_id);
+UPDATE dishes SET id_bin = UUID_TO_BIN(id), restaurant_id_bin = UUID_TO_BIN(restaurant_id);
+UPDATE orders
+SET id_bin = UUID_TO_BIN(id),
+    client_id_bin = UUID_TO_BIN(client_id),
+    chef_id_bin = UUID_TO_BIN(chef_id),
+    restaurant_id_bin = UUID_TO_BIN(restaurant_id);
+UPDATE orders_dishes SET order_id_bin = UUID_TO_BIN(order_id), dish_id_bin = UUID_TO_BIN(dish_id);
+
+-- Swap
+ALTER TABLE restaurants DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN owner_id;
+ALTER TABLE restaurants
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN owner_id_bin owner_id BINARY(16) NOT NULL AFTER address,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE dishes DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN restaurant_id;
+ALTER TABLE dishes
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN restaurant_id_bin restaurant_id BINARY(16) NOT NULL AFTER category_id,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE orders DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN client_id, DROP COLUMN chef_id, DROP COLUMN restaurant_id;
+ALTER TABLE orders
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN client_id_bin client_id BINARY(16) NOT NULL AFTER id,
+    CHANGE COLUMN chef_id_bin chef_id BINARY(16) NULL AFTER status,
+    CHANGE COLUMN restaurant_id_bin restaurant_id BINARY(16) NOT NULL AFTER chef_id,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE orders_dishes DROP PRIMARY KEY, DROP COLUMN order_id, DROP COLUMN dish_id;
+ALTER TABLE orders_dishes
+    CHANGE COLUMN order_id_bin order_id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN dish_id_bin dish_id BINARY(16) NOT NULL AFTER order_id,
+    ADD PRIMARY KEY (order_id, dish_id);
+
+-- Restore constraints
+ALTER TABLE dishes
+    ADD CONSTRAINT uk_dishes_name_restaurant UNIQUE (name, restaurant_id),
+    ADD CONSTRAINT fk_dishes_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants(id);
+
+ALTER TABLE orders
+    ADD CONSTRAINT fk_orders_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants(id);
+
+ALTER TABLE orders
+    ADD COLUMN active_client_id BINARY(16)
+        GENERATED ALWAYS AS (
+            CASE WHEN status IN ('PENDING', 'IN_PREPARATION', 'READY') THEN client_id END
+        ) STORED;
+
+CREATE UNIQUE INDEX uk_orders_active_client ON orders (active_client_id);
+
+ALTER TABLE orders_dishes
+    ADD CONSTRAINT fk_orders_dishes_order FOREIGN KEY (order_id) REFERENCES orders(id),
+    ADD CONSTRAINT fk_orders_dishes_dish FOREIGN KEY (dish_id) REFERENCES dishes(id);
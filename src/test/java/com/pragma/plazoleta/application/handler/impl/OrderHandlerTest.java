@@ -0,0 +1,223 @@
+package com.pragma.plazoleta.application.handler.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazoleta.application.dto.request.OrderDishRequest;
+import com.pragma.plazoleta.application.dto.request.OrderRequest;
+import com.pragma.plazoleta.application.dto.response.OrderResponse;
+import com.pragma.plazoleta.application.dto.response.OrderStatusResponse;
+import com.pragma.plazoleta.application.mapper.INotificationMapper;
+import com.pragma.plazoleta.application.mapper.IOrderMapper;
+import com.pragma.plazoleta.application.mapper.ITraceabilityGroupedMapper;
+import com.pragma.plazoleta.application.mapper.ITraceabilityMapper;
+import com.pragma.plazoleta.domain.api.IOrderServicePort;
+import com.pragma.plazoleta.domain.exception.OrderException;
+import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.domain.spi.IIdempotencyPersistencePort;
+import com.pragma.plazoleta.domain.spi.IOrderEventStreamPort;
+import com.pragma.plazoleta.domain.spi.IOrderStatusWatchPort;
+import com.pragma.plazoleta.domain.spi.ISecurityContextPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderHandlerTest {
+    private static final String KEY = "key-1";
+
+    @Mock
+    private IOrderServicePort orderServicePort;
+
+    @Mock
+    private IOrderMapper orderMapper;
+
+    @Mock
+    private INotificationMapper notificationMapper;
+
+    @Mock
+    private ITraceabilityGroupedMapper traceabilityGroupedMapper;
+
+    @Mock
+    private ITraceabilityMapper traceabilityMapper;
+
+    @Mock
+    private ISecurityContextPort securityContextPort;
+
+    @Mock
+    private IIdempotencyPersistencePort idempotencyPersistencePort;
+
+    @Mock
+    private IOrderEventStreamPort<SseEmitter> orderEventStreamPort;
+
+    @Mock
+    private IOrderStatusWatchPort orderStatusWatchPort;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OrderHandler orderHandler;
+    private UUID userId;
+    private OrderRequest orderRequest;
+
+    @BeforeEach
+    void setUp() {
+        orderHandler = new OrderHandler(orderServicePort, orderMapper, notificationMapper, traceabilityGroupedMapper,
+                traceabilityMapper, securityContextPort, idempotencyPersistencePort, orderEventStreamPort, orderStatusWatchPort, objectMapper);
+        userId = UUID.randomUUID();
+        orderRequest = new OrderRequest(UUID.randomUUID().toString(),
+                List.of(new OrderDishRequest(UUID.randomUUID().toString(), 2)));
+    }
+
+    @Test
+    void createOrderWithNewKeySavesResponse() {
+        Order order = new Order();
+        OrderResponse orderResponse = OrderResponse.builder().id(UUID.randomUUID().toString()).status("PENDING").build();
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(userId);
+        when(idempotencyPersistencePort.reserve(eq(userId), eq(KEY), anyString())).thenReturn(Optional.empty());
+        when(orderMapper.toOrder(orderRequest)).thenReturn(order);
+        when(orderServicePort.createOrder(order)).thenReturn(order);
+        when(orderMapper.toOrderResponse(order)).thenReturn(orderResponse);
+
+        OrderResponse result = orderHandler.createOrder(orderRequest, KEY);
+
+        assertSame(orderResponse, result);
+        ArgumentCaptor<String> reservedHash = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyPersistencePort).reserve(eq(userId), eq(KEY), reservedHash.capture());
+        verify(idempotencyPersistencePort).saveResponse(eq(userId), eq(KEY), eq(reservedHash.getValue()), anyString());
+        verify(idempotencyPersistencePort, never()).release(any(), any());
+    }
+
+    @Test
+    void createOrderWithCompletedKeyReturnsStoredResponse() throws Exception {
+        OrderResponse stored = OrderResponse.builder().id(UUID.randomUUID().toString()).status("PENDING").build();
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(userId);
+        when(idempotencyPersistencePort.reserve(eq(userId), eq(KEY), anyString()))
+                .thenReturn(Optional.of(objectMapper.writeValueAsString(stored)));
+
+        OrderResponse result = orderHandler.createOrder(orderRequest, KEY);
+
+        assertEquals(stored, result);
+        verifyNoInteractions(orderServicePort);
+    }
+
+    @Test
+    void createOrderFailureReleasesKey() {
+        Order order = new Order();
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(userId);
+        when(idempotencyPersistencePort.reserve(eq(userId), eq(KEY), anyString())).thenReturn(Optional.empty());
+        when(orderMapper.toOrder(orderRequest)).thenReturn(order);
+        when(orderServicePort.createOrder(order)).thenThrow(new OrderException("Restaurant does not exist"));
+
+        assertThrows(OrderException.class, () -> orderHandler.createOrder(orderRequest, KEY));
+
+        verify(idempotencyPersistencePort).release(userId, KEY);
+        verify(idempotencyPersistencePort, never()).saveResponse(any(), any(), any(), any());
+    }
+
+    @Test
+    void createOrderHashesEqualRequestsAlikeAndDifferentRequestsApart() {
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(userId);
+        when(idempotencyPersistencePort.reserve(eq(userId), eq(KEY), anyString())).thenReturn(Optional.of("{}"));
+        OrderRequest sameRequest = new OrderRequest(orderRequest.getRestaurantId(),
+                List.of(new OrderDishRequest(orderRequest.getDishes().get(0).getDishId(), 2)));
+        OrderRequest otherRequest = new OrderRequest(orderRequest.getRestaurantId(),
+                List.of(new OrderDishRequest(orderRequest.getDishes().get(0).getDishId(), 3)));
+
+        orderHandler.createOrder(orderRequest, KEY);
+        orderHandler.createOrder(sameRequest, KEY);
+        orderHandler.createOrder(otherRequest, KEY);
+
+        ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyPersistencePort, times(3)).reserve(eq(userId), eq(KEY), hashes.capture());
+        assertEquals(hashes.getAllValues().get(0), hashes.getAllValues().get(1));
+        assertNotEquals(hashes.getAllValues().get(0), hashes.getAllValues().get(2));
+    }
+
+    @Test
+    void createOrderWithoutKeySkipsIdempotency() {
+        Order order = new Order();
+        when(orderMapper.toOrder(orderRequest)).thenReturn(order);
+        when(orderServicePort.createOrder(order)).thenReturn(order);
+        when(orderMapper.toOrderResponse(order)).thenReturn(new OrderResponse());
+
+        orderHandler.createOrder(orderRequest, null);
+
+        verifyNoInteractions(idempotencyPersistencePort);
+    }
+
+    @Test
+    void streamOrderEventsSubscribesAfterKitchenAccessIsValidated() {
+        UUID restaurantId = UUID.randomUUID();
+        SseEmitter emitter = new SseEmitter();
+        when(orderEventStreamPort.subscribe(restaurantId, "42")).thenReturn(emitter);
+
+        SseEmitter result = orderHandler.streamOrderEvents(restaurantId.toString(), "42");
+
+        assertSame(emitter, result);
+        InOrder inOrder = inOrder(orderServicePort, orderEventStreamPort);
+        inOrder.verify(orderServicePort).validateKitchenAccess(restaurantId);
+        inOrder.verify(orderEventStreamPort).subscribe(restaurantId, "42");
+    }
+
+    @Test
+    void streamOrderEventsWithoutKitchenAccessDoesNotSubscribe() {
+        UUID restaurantId = UUID.randomUUID();
+        doThrow(new OrderException("You are not an employee of this restaurant"))
+                .when(orderServicePort).validateKitchenAccess(restaurantId);
+
+        assertThrows(OrderException.class, () -> orderHandler.streamOrderEvents(restaurantId.toString(), null));
+        verifyNoInteractions(orderEventStreamPort);
+    }
+
+    @Test
+    void waitForOrderStatusMapsTheNewStatus() {
+        UUID orderId = UUID.randomUUID();
+        CompletableFuture<OrderStatus> change = new CompletableFuture<>();
+        when(orderStatusWatchPort.watch(eq(orderId), eq(OrderStatus.PENDING), any())).thenReturn(change);
+
+        DeferredResult<OrderStatusResponse> result = orderHandler.waitForOrderStatus(orderId.toString(), "pending", Duration.ofSeconds(30));
+        assertFalse(result.hasResult());
+        change.complete(OrderStatus.IN_PREPARATION);
+
+        OrderStatusResponse response = (OrderStatusResponse) result.getResult();
+        assertEquals(orderId.toString(), response.getOrderId());
+        assertEquals("IN_PREPARATION", response.getStatus());
+    }
+
+    @Test
+    void waitForOrderStatusReadsCurrentStatusThroughServicePort() {
+        UUID orderId = UUID.randomUUID();
+        when(orderServicePort.getOrderStatus(orderId)).thenReturn(OrderStatus.READY);
+        when(orderStatusWatchPort.watch(eq(orderId), eq(OrderStatus.PENDING), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<OrderStatus>>getArgument(2).get()));
+
+        DeferredResult<OrderStatusResponse> result = orderHandler.waitForOrderStatus(orderId.toString(), "PENDING", Duration.ofSeconds(30));
+
+        assertEquals("READY", ((OrderStatusResponse) result.getResult()).getStatus());
+    }
+
+    @Test
+    void waitForOrderStatusWithUnknownStatusDoesNotWatch() {
+        assertThrows(OrderException.class,
+                () -> orderHandler.waitForOrderStatus(UUID.randomUUID().toString(), "LOST", Duration.ofSeconds(30)));
+        verifyNoInteractions(orderStatusWatchPort);
+    }
+}
@@ -1,9 +1,13 @@
 package com.pragma.plazoleta.domain.usecase;
 
 import com.pragma.plazoleta.domain.exception.DomainException;
+import com.pragma.plazoleta.domain.exception.ForbiddenException;
+import com.pragma.plazoleta.domain.model.Category;
 import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DishImportResult;
+import com.pragma.plazoleta.domain.model.DishImportRow;
 import com.pragma.plazoleta.domain.model.DomainPage;
-import com.pragma.plazoleta.domain.model.Restaurant;
+import com.pragma.plazoleta.domain.model.MenuChanges;
 import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
 import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
 import com.pragma.plazoleta.domain.api.ICategoryServicePort;
@@ -55,7 +59,6 @@ class DishUseCaseTest {
     private Dish defaultDish;
     private Dish dish2;
     private Dish dish3;
-    private Restaurant mockRestaurant;
 
     @BeforeEach
     void setUp() {
@@ -70,8 +73,6 @@ class DishUseCaseTest {
         defaultDish = createDish(DISH_ID, DISH_NAME, DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, CATEGORY_ID);
         dish2 = createDish(UUID.randomUUID(), DISH_NAME_2, DISH_PRICE_2, DISH_DESCRIPTION_2, DISH_IMAGE_URL_2, CATEGORY_ID_2);
         dish3 = createDish(UUID.randomUUID(), DISH_NAME_3, DISH_PRICE_3, DISH_DESCRIPTION_3, DISH_IMAGE_URL_3, CATEGORY_ID_3);
-        mockRestaurant = new Restaurant();
-        mockRestaurant.setOwnerId(OWNER_ID);
     }
     
     private Dish createDish(UUID id, String name, Integer price, String description, String imageUrl, Integer categoryId) {
@@ -127,7 +128,7 @@ class DishUseCaseTest {
         setupOwnerAuthentication();
         when(dishPersistencePort.existsByNameAndRestaurantId("Pasta", RESTAURANT_ID)).thenReturn(false);
         when(dishPersistencePort.save(dish)).thenReturn(dish);
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         Dish result = useCase.createDish(dish);
         
         assertEquals("Pasta", result.getName());
@@ -189,12 +190,118 @@ class DishUseCaseTest {
         Dish dish = createDish(DISH_ID, "Pasta", 100, "desc", "img", CATEGORY_ID);
         
         setupOtherUserAuthentication();
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
 
         DomainException ex = assertThrows(DomainException.class, () -> useCase.createDish(dish));
         assertEquals("Only the restaurant owner can create or update dishes", ex.getMessage());
     }
 
+    @Test
+    void importDishesShouldSaveValidRowsAndReportRejectedOnes() {
+        List<DishImportRow> rows = Arrays.asList(
+            new DishImportRow(1, createDish(UUID.randomUUID(), DISH_NAME, DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"),
+            new DishImportRow(2, createDish(UUID.randomUUID(), DISH_NAME_2, DISH_PRICE_2, DISH_DESCRIPTION_2, DISH_IMAGE_URL_2, null), "Pizza"),
+            new DishImportRow(3, createDish(UUID.randomUUID(), DISH_NAME_3.toUpperCase(), DISH_PRICE_3, DISH_DESCRIPTION_3, DISH_IMAGE_URL_3, null), "Pasta"),
+            new DishImportRow(4, createDish(UUID.randomUUID(), DISH_NAME, DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"),
+            new DishImportRow(5, createDish(UUID.randomUUID(), "Lasagna", 0, "desc", "img", null), "Pasta"),
+            new DishImportRow(6, createDish(UUID.randomUUID(), "Ravioli", 100, "desc", "img", null), "Unknown"));
+
+        setupOwnerAuthentication();
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenReturn(OWNER_ID);
+        when(dishPersistencePort.findExistingNames(eq(RESTAURANT_ID), anyCollection())).thenReturn(List.of(DISH_NAME_3));
+        when(categoryServicePort.getByName("Pasta")).thenReturn(new Category(CATEGORY_ID, "Pasta", "desc"));
+        when(categoryServicePort.getByName("Pizza")).thenReturn(new Category(CATEGORY_ID_2, "Pizza", "desc"));
+        when(categoryServicePort.getByName("Unknown")).thenThrow(new DomainException("Category not found"));
+
+        List<DishImportResult> results = useCase.importDishes(RESTAURANT_ID, rows);
+
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals(rows.get(0).getDish().getId(), results.get(0).getDishId());
+        assertTrue(results.get(1).isCreated());
+        assertEquals("A dish with this name already exists in this restaurant", results.get(2).getError());
+        assertEquals("A dish with this name already exists in this restaurant", results.get(3).getError());
+        assertEquals("Dish price must be a positive integer", results.get(4).getError());
+        assertEquals("Category not found", results.get(5).getError());
+        assertEquals(6, results.get(5).getLine());
+        verify(dishPersistencePort).saveAll(List.of(rows.get(0).getDish(), rows.get(1).getDish()));
+        verify(dishPersistencePort, never()).existsByNameAndRestaurantId(anyString(), any());
+        verify(restaurantServicePort, never()).getRestaurantById(any());
+    }
+
+    @Test
+    void importDishesShouldRejectNamesThatDifferOnlyInAccents() {
+        List<DishImportRow> rows = List.of(
+            new DishImportRow(1, createDish(UUID.randomUUID(), "Ensalada Cesar", DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"),
+            new DishImportRow(2, createDish(UUID.randomUUID(), "Pollo al limón", DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"),
+            new DishImportRow(3, createDish(UUID.randomUUID(), "POLLO AL LIMON", DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"));
+
+        setupOwnerAuthentication();
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenReturn(OWNER_ID);
+        when(dishPersistencePort.findExistingNames(eq(RESTAURANT_ID), anyCollection())).thenReturn(List.of(DISH_NAME_3));
+        when(categoryServicePort.getByName("Pasta")).thenReturn(new Category(CATEGORY_ID, "Pasta", "desc"));
+
+        List<DishImportResult> results = useCase.importDishes(RESTAURANT_ID, rows);
+
+        assertEquals("A dish with this name already exists in this restaurant", results.get(0).getError());
+        assertTrue(results.get(1).isCreated());
+        assertEquals("A dish with this name already exists in this restaurant", results.get(2).getError());
+        verify(dishPersistencePort).saveAll(List.of(rows.get(1).getDish()));
+    }
+
+    @Test
+    void validateDishImportOwnerShouldPass() {
+        setupOwnerAuthentication();
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenReturn(OWNER_ID);
+
+        assertDoesNotThrow(() -> useCase.validateDishImport(RESTAURANT_ID));
+        verifyNoInteractions(dishPersistencePort);
+    }
+
+    @Test
+    void validateDishImportNotOwnerShouldThrowForbidden() {
+        setupOtherUserAuthentication();
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenReturn(OWNER_ID);
+
+        ForbiddenException ex = assertThrows(ForbiddenException.class, () -> useCase.validateDishImport(RESTAURANT_ID));
+        assertEquals("Only the restaurant owner can create or update dishes", ex.getMessage());
+    }
+
+    @Test
+    void validateDishImportMissingRestaurantShouldThrowException() {
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenThrow(new DomainException("Restaurant not found"));
+
+        DomainException ex = assertThrows(DomainException.class, () -> useCase.validateDishImport(RESTAURANT_ID));
+        assertEquals("Restaurant not found", ex.getMessage());
+    }
+
+    @Test
+    void importDishesNotOwnerShouldThrowException() {
+        List<DishImportRow> rows = List.of(new DishImportRow(1, createDish(UUID.randomUUID(), DISH_NAME, DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"));
+
+        setupOtherUserAuthentication();
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenReturn(OWNER_ID);
+
+        DomainException ex = assertThrows(DomainException.class, () -> useCase.importDishes(RESTAURANT_ID, rows));
+        assertEquals("Only the restaurant owner can create or update dishes", ex.getMessage());
+        verifyNoInteractions(dishPersistencePort);
+    }
+
+    @Test
+    void importDishesWithoutValidRowsShouldNotSave() {
+        List<DishImportRow> rows = List.of(new DishImportRow(1, createDish(UUID.randomUUID(), "", DISH_PRICE, DISH_DESCRIPTION, DISH_IMAGE_URL, null), "Pasta"));
+
+        setupOwnerAuthentication();
+        when(restaurantServicePort.getOwnerIdByRestaurantId(RESTAURANT_ID)).thenReturn(OWNER_ID);
+
+        List<DishImportResult> results = useCase.importDishes(RESTAURANT_ID, rows);
+
+        assertFalse(results.get(0).isCreated());
+        assertEquals("Dish name is required", results.get(0).getError());
+        verify(dishPersistencePort).findExistingNames(RESTAURANT_ID, List.of());
+        verify(dishPersistencePort, never()).saveAll(any());
+    }
+
     @Test
     void updateDishOnlyPrice() {
         Dish dish = createDish(DISH_ID, "Pasta", 100, "desc", "img", CATEGORY_ID);
@@ -205,7 +312,7 @@ class DishUseCaseTest {
         when(dishPersistencePort.getById(DISH_ID))
         .thenReturn(Optional.of(dish))       
         .thenReturn(Optional.of(updatedDish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
 
         Dish result = useCase.updateDish(DISH_ID, Optional.of(200), Optional.empty());
         
@@ -223,7 +330,7 @@ class DishUseCaseTest {
         when(dishPersistencePort.getById(DISH_ID))
         .thenReturn(Optional.of(dish))       
         .thenReturn(Optional.of(updatedDish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         
         Dish result = useCase.updateDish(DISH_ID, Optional.empty(), Optional.of("Nueva descripcion"));
         
@@ -238,7 +345,7 @@ class DishUseCaseTest {
         Optional<String> newDescription = Optional.empty();
 
         setupOwnerAuthentication();
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
         
         DomainException ex = assertThrows(DomainException.class, () -> useCase.updateDish(DISH_ID, newPrice, newDescription));
@@ -255,7 +362,7 @@ class DishUseCaseTest {
         when(dishPersistencePort.getById(DISH_ID))
         .thenReturn(Optional.of(dish))       
         .thenReturn(Optional.of(updatedDish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         
         Dish result = useCase.updateDish(DISH_ID, Optional.of(300), Optional.of("Otra descripcion"));
         
@@ -272,7 +379,7 @@ class DishUseCaseTest {
 
         setupOwnerAuthentication();
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
 
         DomainException ex = assertThrows(DomainException.class, () -> useCase.updateDish(DISH_ID, newPrice, newDescription));
         assertEquals("Dish description cannot be empty", ex.getMessage());
@@ -286,7 +393,7 @@ class DishUseCaseTest {
 
         setupOwnerAuthentication();
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
 
         DomainException ex = assertThrows(DomainException.class, () -> useCase.updateDish(DISH_ID, newPrice, newDescription));
         assertEquals("Dish price must be a positive integer", ex.getMessage());
@@ -297,7 +404,7 @@ class DishUseCaseTest {
         Dish dish = createDish(DISH_ID, "Pasta", 100, "desc", "img", CATEGORY_ID);
 
         setupOwnerAuthentication();
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         when(dishPersistencePort.existsByNameAndRestaurantId("Pasta", RESTAURANT_ID)).thenReturn(true);
         
         DomainException ex = assertThrows(DomainException.class, () -> useCase.createDish(dish));
@@ -314,7 +421,7 @@ class DishUseCaseTest {
         .thenReturn(Optional.of(dish))       
         .thenReturn(Optional.of(updatedDish));
         when(dishPersistencePort.updateDishActive(dish)).thenReturn(true);
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         
         Dish result = useCase.updateDishActive(DISH_ID, Optional.of(true));
         assertTrue(result.isActive());
@@ -331,7 +438,7 @@ class DishUseCaseTest {
         .thenReturn(Optional.of(dish))       
         .thenReturn(Optional.of(updatedDish));
         when(dishPersistencePort.updateDishActive(dish)).thenReturn(true);
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         Dish result = useCase.updateDishActive(DISH_ID, Optional.of(false));
         
         assertFalse(result.isActive());
@@ -345,7 +452,7 @@ class DishUseCaseTest {
 
         setupOtherUserAuthentication();
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         
         DomainException ex = assertThrows(DomainException.class, () -> useCase.updateDishActive(DISH_ID, newActive));
         assertEquals("Only the restaurant owner can create or update dishes", ex.getMessage());
@@ -381,7 +488,7 @@ class DishUseCaseTest {
 
         setupOwnerAuthentication();
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         
         DomainException ex = assertThrows(DomainException.class, () -> useCase.updateDishActive(DISH_ID, newActive));
         assertEquals("Active field must be provided", ex.getMessage());
@@ -439,6 +546,56 @@ class DishUseCaseTest {
         verify(dishPersistencePort).getDishesByRestaurant(RESTAURANT_ID, Optional.empty(), 0, 10);
     }
 
+    @Test
+    void getMenuChangesShouldReturnChangedDishes() {
+        Dish deactivated = createDish(UUID.randomUUID(), DISH_NAME_2, DISH_PRICE_2, DISH_DESCRIPTION_2, DISH_IMAGE_URL_2, CATEGORY_ID_2);
+        deactivated.setActive(false);
+        MenuChanges changes = MenuChanges.builder()
+            .dishes(Arrays.asList(defaultDish, deactivated))
+            .version(12)
+            .hasMore(false)
+            .build();
+
+        when(restaurantServicePort.existsById(RESTAURANT_ID)).thenReturn(true);
+        when(dishPersistencePort.getMenuChanges(RESTAURANT_ID, 10, 100)).thenReturn(changes);
+        MenuChanges result = useCase.getMenuChanges(RESTAURANT_ID, 10, 100);
+
+        assertEquals(2, result.getDishes().size());
+        assertFalse(result.getDishes().get(1).isActive());
+        assertEquals(12, result.getVersion());
+        assertFalse(result.isHasMore());
+        verify(dishPersistencePort).getMenuChanges(RESTAURANT_ID, 10, 100);
+    }
+
+    @Test
+    void getMenuChangesWithNegativeVersionShouldThrowException() {
+        DomainException exception = assertThrows(DomainException.class,
+            () -> useCase.getMenuChanges(RESTAURANT_ID, -1, 100));
+
+        assertEquals("Since version must not be negative", exception.getMessage());
+        verifyNoInteractions(restaurantServicePort, dishPersistencePort);
+    }
+
+    @Test
+    void getMenuChangesWithInvalidSizeShouldThrowException() {
+        DomainException exception = assertThrows(DomainException.class,
+            () -> useCase.getMenuChanges(RESTAURANT_ID, 0, 501));
+
+        assertEquals("Page size must be between 1 and 500", exception.getMessage());
+        verifyNoInteractions(restaurantServicePort, dishPersistencePort);
+    }
+
+    @Test
+    void getMenuChangesWhenRestaurantNotFoundShouldThrowException() {
+        when(restaurantServicePort.existsById(RESTAURANT_ID)).thenReturn(false);
+
+        DomainException exception = assertThrows(DomainException.class,
+            () -> useCase.getMenuChanges(RESTAURANT_ID, 0, 100));
+
+        assertEquals("Restaurant not found", exception.getMessage());
+        verify(dishPersistencePort, never()).getMenuChanges(any(), anyLong(), anyInt());
+    }
+
     @Test
     void getDishesByRestaurantWithPaginationShouldReturnCorrectPage() {
         List<Dish> dishList = Arrays.asList(dish3, dish2);
@@ -501,7 +658,7 @@ class DishUseCaseTest {
         setupOwnerAuthentication();
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
         when(dishPersistencePort.updateDish(dish)).thenReturn(false);
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
         
         DomainException exception = assertThrows(DomainException.class, () -> 
             useCase.updateDish(DISH_ID, newPrice, newDescription)
@@ -518,7 +675,7 @@ class DishUseCaseTest {
         setupOwnerAuthentication();
         when(dishPersistencePort.getById(DISH_ID)).thenReturn(Optional.of(dish));
         when(dishPersistencePort.updateDishActive(dish)).thenReturn(false);
-        when(restaurantServicePort.getRestaurantById(dish.getRestaurantId())).thenReturn(mockRestaurant);
+        when(restaurantServicePort.getOwnerIdByRestaurantId(dish.getRestaurantId())).thenReturn(OWNER_ID);
 
         DomainException exception = assertThrows(DomainException.class, () -> 
             useCase.updateDishActive(DISH_ID, newActive)
@@ -3,6 +3,7 @@ package com.pragma.plazoleta.domain.usecase;
 import com.pragma.plazoleta.domain.api.IDishServicePort;
 import com.pragma.plazoleta.domain.api.IRestaurantServicePort;
 import com.pragma.plazoleta.domain.exception.OrderException;
+import com.pragma.plazoleta.domain.model.Dish;
 import com.pragma.plazoleta.domain.model.Order;
 import com.pragma.plazoleta.domain.model.DomainPage;
 import com.pragma.plazoleta.domain.model.OrderDish;
@@ -12,6 +13,7 @@ import com.pragma.plazoleta.domain.model.TraceabilityGrouped;
 import com.pragma.plazoleta.domain.spi.IOrderPersistencePort;
 import com.pragma.plazoleta.domain.spi.ISecurityContextPort;
 import com.pragma.plazoleta.domain.spi.ITraceCommunicationPort;
+import com.pragma.plazoleta.domain.spi.ITransactionPort;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,9 +27,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 import com.pragma.plazoleta.domain.spi.IUserRoleValidationPort;
 import java.util.Optional;
@@ -35,6 +44,11 @@ import com.pragma.plazoleta.domain.service.OrderStatusService;
 import com.pragma.plazoleta.domain.model.Notification;
 import com.pragma.plazoleta.domain.model.NotificationResult;
 import com.pragma.plazoleta.domain.spi.INotificationPersistencePort;
+import com.pragma.plazoleta.domain.spi.IOrderEventPublisherPort;
+import com.pragma.plazoleta.domain.model.OrderCursor;
+import com.pragma.plazoleta.domain.model.OrderCursorPage;
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.model.OrderEventType;
 
 @ExtendWith(MockitoExtension.class)
 class OrderUseCaseTest {
@@ -63,6 +77,15 @@ class OrderUseCaseTest {
     @Mock
     private OrderStatusService orderStatusService;
 
+    @Mock
+    private ITransactionPort transactionPort;
+
+    @Mock
+    private IOrderEventPublisherPort orderEventPublisherPort;
+
+    @Mock
+    private Executor validationExecutor;
+
     @InjectMocks
     private OrderUseCase orderUseCase;
 
@@ -83,6 +106,13 @@ class OrderUseCaseTest {
         orderId = UUID.randomUUID();
         employeeId = UUID.randomUUID();
 
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(validationExecutor).execute(any(Runnable.class));
+        lenient().when(transactionPort.runInTransaction(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
         List<OrderDish> orderDishes = Arrays.asList(
             OrderDish.builder()
                 .dishId(dishId1)
@@ -113,16 +143,18 @@ class OrderUseCaseTest {
         return orders;
     }
 
+    private Dish createTestDish(UUID dishId, UUID dishRestaurantId, boolean active) {
+        return new Dish(dishId, "Dish", 10000, "Description", "http://example.com/dish.jpg", 1, dishRestaurantId, active);
+    }
+
     @Test
     void createOrderSuccess() {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(true);
-        when(dishServicePort.existsById(dishId2)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId1)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId2)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, true),
+            createTestDish(dishId2, restaurantId, true)));
         when(userRoleValidationPort.getEmailByUserId(any(UUID.class))).thenReturn(Optional.of("test@test.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
         when(orderPersistencePort.saveOrder(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -148,30 +180,100 @@ class OrderUseCaseTest {
     void createOrderHasActiveOrdersThrowsException() {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(true);
+        when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, true),
+            createTestDish(dishId2, restaurantId, true)));
+        when(userRoleValidationPort.getEmailByUserId(clientId)).thenReturn(Optional.of("test@test.com"));
+        when(orderPersistencePort.saveOrder(any(Order.class)))
+            .thenThrow(new OrderException("You cannot have more than one active order"));
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(order));
         assertEquals("You cannot have more than one active order", exception.getMessage());
+        verify(orderPersistencePort, never()).hasActiveOrders(any());
+        verifyNoInteractions(traceCommunicationPort);
     }
 
     @Test
     void createOrderRestaurantDoesNotExistThrowsException() {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(false);
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(order));
         assertEquals("Restaurant does not exist", exception.getMessage());
+        verifyNoInteractions(dishServicePort, userRoleValidationPort, orderPersistencePort);
+    }
+
+    @Test
+    void createOrderWithRealExecutorSkipsPendingValidationsAfterFailure() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        OrderUseCase useCase = orderUseCaseWith(executor);
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
+        when(restaurantServicePort.existsById(restaurantId)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return false;
+        });
+
+        try {
+            OrderException exception = assertThrows(OrderException.class, () -> useCase.createOrder(order));
+            assertEquals("Restaurant does not exist", exception.getMessage());
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        verifyNoInteractions(dishServicePort, userRoleValidationPort, orderPersistencePort);
+    }
+
+    @Test
+    void createOrderWithRealExecutorRunsValidationsConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        OrderUseCase useCase = orderUseCaseWith(executor);
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
+        when(restaurantServicePort.existsById(restaurantId))
+            .thenAnswer(invocation -> awaitSiblings(allStarted, true));
+        when(dishServicePort.getDishesByIds(anyCollection())).thenAnswer(invocation -> awaitSiblings(allStarted, List.of(
+            createTestDish(dishId1, restaurantId, true),
+            createTestDish(dishId2, restaurantId, true))));
+        when(userRoleValidationPort.getEmailByUserId(clientId))
+            .thenAnswer(invocation -> awaitSiblings(allStarted, Optional.of("test@test.com")));
+        when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
+        when(orderPersistencePort.saveOrder(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try {
+            Order result = useCase.createOrder(order);
+            assertEquals(clientId, result.getClientId());
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        verify(orderPersistencePort).saveOrder(any(Order.class));
+    }
+
+    private OrderUseCase orderUseCaseWith(Executor executor) {
+        return new OrderUseCase(orderPersistencePort, dishServicePort, restaurantServicePort, securityContextPort,
+            userRoleValidationPort, messagePersistencePort, traceCommunicationPort, orderStatusService,
+            transactionPort, orderEventPublisherPort, executor);
+    }
+
+    private static <T> T awaitSiblings(CountDownLatch allStarted, T result) throws InterruptedException {
+        allStarted.countDown();
+        if (!allStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Validations did not run concurrently");
+        }
+        return result;
     }
 
     @Test
     void createOrderDishDoesNotExistThrowsException() {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(false);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId2, restaurantId, true)));
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(order));
         assertEquals("Dish with id " + dishId1 + " does not exist", exception.getMessage());
@@ -237,10 +339,9 @@ class OrderUseCaseTest {
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId1)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, true)));
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(orderWithZeroQuantity));
         assertEquals("Quantity must be greater than 0", exception.getMessage());
@@ -262,10 +363,9 @@ class OrderUseCaseTest {
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId1)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, true)));
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(orderWithNegativeQuantity));
         assertEquals("Quantity must be greater than 0", exception.getMessage());
@@ -287,10 +387,9 @@ class OrderUseCaseTest {
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId1)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, true)));
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(orderWithNullQuantity));
         assertEquals("Quantity is required", exception.getMessage());
@@ -312,7 +411,6 @@ class OrderUseCaseTest {
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(orderWithNullDishId));
@@ -358,10 +456,9 @@ class OrderUseCaseTest {
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId1)).thenReturn(false);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, false)));
 
         OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(orderWithInactiveDish));
         assertEquals("Dish with id " + dishId1 + " is not active", exception.getMessage());
@@ -382,10 +479,9 @@ class OrderUseCaseTest {
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.hasActiveOrders(clientId)).thenReturn(false);
         when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
-        when(dishServicePort.existsById(dishId1)).thenReturn(true);
-        when(dishServicePort.isActiveById(dishId1)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, restaurantId, true)));
         when(userRoleValidationPort.getEmailByUserId(any(UUID.class))).thenReturn(Optional.of("test@test.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
         when(orderPersistencePort.saveOrder(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -396,7 +492,32 @@ class OrderUseCaseTest {
         assertEquals(OrderStatus.PENDING, result.getStatus());
         assertNotNull(result.getDate());
         verify(orderPersistencePort).saveOrder(any(Order.class));
-        verify(dishServicePort).isActiveById(dishId1);
+        verify(dishServicePort).getDishesByIds(List.of(dishId1));
+        verifyNoMoreInteractions(dishServicePort);
+    }
+
+    @Test
+    void createOrderWithDishFromAnotherRestaurantThrowsException() {
+        List<OrderDish> orderDishesFromOtherRestaurant = Collections.singletonList(
+                OrderDish.builder()
+                        .dishId(dishId1)
+                        .quantity(1)
+                        .build()
+        );
+        Order orderWithForeignDish = Order.builder()
+            .restaurantId(restaurantId)
+            .orderDishes(orderDishesFromOtherRestaurant)
+            .build();
+
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
+        when(restaurantServicePort.existsById(restaurantId)).thenReturn(true);
+        when(dishServicePort.getDishesByIds(anyCollection())).thenReturn(List.of(
+            createTestDish(dishId1, UUID.randomUUID(), true)));
+
+        OrderException exception = assertThrows(OrderException.class, () -> orderUseCase.createOrder(orderWithForeignDish));
+        assertEquals("Dish with id " + dishId1 + " does not belong to the restaurant", exception.getMessage());
+        verifyNoInteractions(traceCommunicationPort);
     }
 
     @Test
@@ -427,6 +548,26 @@ class OrderUseCaseTest {
         verify(orderPersistencePort).findByStatusAndRestaurant(status, restaurantId, 0, 10);
     }
 
+    @Test
+    void getOrdersByStatusAndRestaurantAfterCursorSuccess() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.now(), UUID.randomUUID());
+        OrderCursorPage expectedPage = OrderCursorPage.builder()
+            .content(List.of(createTestOrder(restaurantId, OrderStatus.PENDING)))
+            .pageSize(10)
+            .build();
+
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
+        when(userRoleValidationPort.getRestaurantIdByUserId(employeeId)).thenReturn(Optional.of(restaurantId.toString()));
+        when(orderPersistencePort.findByStatusAndRestaurantAfter(OrderStatus.PENDING, restaurantId, cursor, 10)).thenReturn(expectedPage);
+
+        OrderCursorPage result = orderUseCase.getOrdersByStatusAndRestaurantAfter("PENDING", restaurantId, cursor, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+        verify(orderPersistencePort).findByStatusAndRestaurantAfter(OrderStatus.PENDING, restaurantId, cursor, 10);
+    }
+
     @Test
     void getOrdersByStatusAndRestaurantEmptyResult() {
         OrderStatus status = OrderStatus.CANCELLED;
@@ -548,7 +689,7 @@ class OrderUseCaseTest {
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
         when(userRoleValidationPort.getRestaurantIdByUserId(employeeId)).thenReturn(Optional.of(restaurantId.toString()));
-        when(orderPersistencePort.updateOrderStatusAndChefId(orderTest)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.updateOrderStatusAndChefId(orderTest, OrderStatus.PENDING)).thenReturn(Optional.of(orderTest));
         when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
         when(userRoleValidationPort.getEmailByUserId(orderTest.getClientId())).thenReturn(Optional.of("client@example.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
@@ -560,7 +701,44 @@ class OrderUseCaseTest {
         verify(securityContextPort).getUserIdOfUserAutenticated();
         verify(orderPersistencePort).findById(orderId);
         verify(userRoleValidationPort).getRestaurantIdByUserId(employeeId);
-        verify(orderPersistencePort).updateOrderStatusAndChefId(orderTest);
+        verify(orderPersistencePort).updateOrderStatusAndChefId(orderTest, OrderStatus.PENDING);
+    }
+
+    @Test
+    void claimNextOrderSuccess() {
+        Order claimedOrder = createTestOrder(restaurantId, OrderStatus.IN_PREPARATION);
+        claimedOrder.setChefId(employeeId);
+
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
+        when(userRoleValidationPort.getRestaurantIdByUserId(employeeId)).thenReturn(Optional.of(restaurantId.toString()));
+        when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
+        when(orderPersistencePort.claimNextPendingOrder(restaurantId, employeeId)).thenReturn(Optional.of(claimedOrder));
+        when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
+
+        Optional<Order> result = orderUseCase.claimNextOrder(restaurantId);
+
+        assertTrue(result.isPresent());
+        assertEquals(employeeId, result.get().getChefId());
+        verify(orderPersistencePort).claimNextPendingOrder(restaurantId, employeeId);
+        verify(traceCommunicationPort).createTrace(argThat(trace ->
+            trace.getClientEmail() == null && "employee@example.com".equals(trace.getEmployeeEmail())));
+        verify(userRoleValidationPort, never()).getEmailByUserId(claimedOrder.getClientId());
+    }
+
+    @Test
+    void claimNextOrderReturnsEmptyWhenNoPendingOrders() {
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
+        when(userRoleValidationPort.getRestaurantIdByUserId(employeeId)).thenReturn(Optional.of(restaurantId.toString()));
+        when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
+        when(orderPersistencePort.claimNextPendingOrder(restaurantId, employeeId)).thenReturn(Optional.empty());
+
+        Optional<Order> result = orderUseCase.claimNextOrder(restaurantId);
+
+        assertTrue(result.isEmpty());
+        verify(traceCommunicationPort, never()).createTrace(any(Traceability.class));
+        verify(orderEventPublisherPort, never()).publish(any(OrderEvent.class));
     }
 
     @Test
@@ -653,12 +831,13 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(userRoleValidationPort.getRestaurantIdByUserId(employeeId)).thenReturn(Optional.of(restaurantId.toString()));
-        when(orderPersistencePort.updateOrderStatusAndChefId(order)).thenReturn(Optional.empty());
+        when(userRoleValidationPort.getEmailByUserId(any())).thenReturn(Optional.of("user@example.com"));
+        when(orderPersistencePort.updateOrderStatusAndChefId(order, OrderStatus.PENDING)).thenReturn(Optional.empty());
 
         OrderException exception = assertThrows(OrderException.class, () -> 
             orderUseCase.assignOrderToEmployee(orderId)
         );
-        assertEquals("Failed to update order - order not found after update", exception.getMessage());
+        assertEquals("Order is no longer pending", exception.getMessage());
         verify(orderPersistencePort).findById(orderId);
     }
 
@@ -693,7 +872,7 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatusAndSecurityPin(orderTest)).thenReturn(Optional.of(updatedOrder));
+        when(orderPersistencePort.updateOrderStatusAndSecurityPin(orderTest, OrderStatus.IN_PREPARATION)).thenReturn(Optional.of(updatedOrder));
         when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
         when(userRoleValidationPort.getEmailByUserId(orderTest.getClientId())).thenReturn(Optional.of("client@example.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
@@ -706,7 +885,7 @@ class OrderUseCaseTest {
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
         verify(orderPersistencePort).findById(orderId);
-        verify(orderPersistencePort).updateOrderStatusAndSecurityPin(orderTest);
+        verify(orderPersistencePort).updateOrderStatusAndSecurityPin(orderTest, OrderStatus.IN_PREPARATION);
     }
 
     @Test
@@ -738,7 +917,9 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatusAndSecurityPin(orderTest)).thenReturn(Optional.empty());
+        when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
+        when(userRoleValidationPort.getEmailByUserId(orderTest.getClientId())).thenReturn(Optional.of("client@example.com"));
+        when(orderPersistencePort.updateOrderStatusAndSecurityPin(orderTest, OrderStatus.IN_PREPARATION)).thenReturn(Optional.empty());
         
         OrderException exception = assertThrows(OrderException.class, () -> 
             orderUseCase.updateSecurityPin(orderId)
@@ -747,7 +928,7 @@ class OrderUseCaseTest {
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
         verify(orderPersistencePort).findById(orderId);
-        verify(orderPersistencePort).updateOrderStatusAndSecurityPin(orderTest);
+        verify(orderPersistencePort).updateOrderStatusAndSecurityPin(orderTest, OrderStatus.IN_PREPARATION);
     }
 
     @Test
@@ -760,7 +941,7 @@ class OrderUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
-        when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
         when(userRoleValidationPort.getPhoneNumberByUserId(orderTest.getClientId())).thenReturn(Optional.of("+573158796999"));
         when(messagePersistencePort.sendMessage(any(Notification.class))).thenReturn(Optional.of(expectedResult));
         
@@ -772,7 +953,7 @@ class OrderUseCaseTest {
         
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort).findHeaderById(orderId);
         verify(userRoleValidationPort).getPhoneNumberByUserId(orderTest.getClientId());
         verify(messagePersistencePort).sendMessage(any(Notification.class));
     }
@@ -781,13 +962,13 @@ class OrderUseCaseTest {
     void sendNotificationToCustomerOrderNotReadyThrowsException() {
         Order orderTest = createTestOrder(restaurantId, OrderStatus.IN_PREPARATION);
         
-        when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
         
         OrderException exception = assertThrows(OrderException.class, () -> 
             orderUseCase.sendNotificationToCustomer(orderId)
         );
         assertEquals("Order is not in status ready", exception.getMessage());
-        verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort).findHeaderById(orderId);
     }
 
     @Test
@@ -798,7 +979,7 @@ class OrderUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
-        when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
         when(userRoleValidationPort.getPhoneNumberByUserId(orderTest.getClientId())).thenReturn(Optional.empty());
         
         OrderException exception = assertThrows(OrderException.class, () -> 
@@ -807,7 +988,7 @@ class OrderUseCaseTest {
         assertEquals("Client phone number not found", exception.getMessage());
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort).findHeaderById(orderId);
         verify(userRoleValidationPort).getPhoneNumberByUserId(orderTest.getClientId());
         verifyNoMoreInteractions(messagePersistencePort);
     }
@@ -820,7 +1001,7 @@ class OrderUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
-        when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
         when(userRoleValidationPort.getPhoneNumberByUserId(orderTest.getClientId())).thenReturn(Optional.of("+573158796999"));
         when(messagePersistencePort.sendMessage(any(Notification.class))).thenReturn(Optional.empty());
         
@@ -830,7 +1011,7 @@ class OrderUseCaseTest {
         assertEquals("Failed to send notification", exception.getMessage());
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort).findHeaderById(orderId);
         verify(userRoleValidationPort).getPhoneNumberByUserId(orderTest.getClientId());
         verify(messagePersistencePort).sendMessage(any(Notification.class));
     }
@@ -844,7 +1025,9 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.empty());
+        when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
+        when(userRoleValidationPort.getEmailByUserId(orderTest.getClientId())).thenReturn(Optional.of("client@example.com"));
+        when(orderPersistencePort.updateOrderStatus(orderTest, OrderStatus.READY)).thenReturn(Optional.empty());
         
         OrderException exception = assertThrows(OrderException.class, () -> 
             orderUseCase.updateOrderToDelivered(orderId, "123456")
@@ -853,7 +1036,7 @@ class OrderUseCaseTest {
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
         verify(orderPersistencePort).findById(orderId);
-        verify(orderPersistencePort).updateOrderStatus(orderTest);
+        verify(orderPersistencePort).updateOrderStatus(orderTest, OrderStatus.READY);
     }
 
     @Test
@@ -868,7 +1051,7 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.of(updatedOrder));    
+        when(orderPersistencePort.updateOrderStatus(orderTest, OrderStatus.READY)).thenReturn(Optional.of(updatedOrder));    
         when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.of("employee@example.com"));
         when(userRoleValidationPort.getEmailByUserId(orderTest.getClientId())).thenReturn(Optional.of("client@example.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
@@ -876,7 +1059,7 @@ class OrderUseCaseTest {
     
         assertNotNull(result);
         assertEquals(OrderStatus.DELIVERED, result.getStatus());
-        verify(orderPersistencePort).updateOrderStatus(orderTest);
+        verify(orderPersistencePort).updateOrderStatus(orderTest, OrderStatus.READY);
     }
 
     @Test
@@ -906,14 +1089,40 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.of(updatedOrder));
+        when(orderPersistencePort.updateOrderStatus(orderTest, OrderStatus.PENDING)).thenReturn(Optional.of(updatedOrder));
         when(userRoleValidationPort.getEmailByUserId(clientId)).thenReturn(Optional.of("client@example.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.of(new Traceability()));
         Order result = orderUseCase.cancelOrder(orderId);
 
         assertNotNull(result);
         assertEquals(OrderStatus.CANCELLED, result.getStatus());
-        verify(orderPersistencePort).updateOrderStatus(orderTest);
+        verify(orderPersistencePort).updateOrderStatus(orderTest, OrderStatus.PENDING);
+        verify(orderEventPublisherPort).publish(argThat(event -> event.getType() == OrderEventType.CANCELLED));
+    }
+
+    @Test
+    void getOrderStatusReturnsStatusForOwner() {
+        Order orderTest = createTestOrder(restaurantId, OrderStatus.READY);
+
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
+
+        assertEquals(OrderStatus.READY, orderUseCase.getOrderStatus(orderId));
+    }
+
+    @Test
+    void getOrderStatusNotOwnerThrowsException() {
+        Order orderTest = createTestOrder(restaurantId, OrderStatus.PENDING);
+
+        when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
+        when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(UUID.randomUUID());
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
+
+        OrderException exception = assertThrows(OrderException.class, () ->
+            orderUseCase.getOrderStatus(orderId)
+        );
+        assertEquals("You are not the owner of this order", exception.getMessage());
     }
 
     @Test
@@ -939,7 +1148,8 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.empty());
+        when(userRoleValidationPort.getEmailByUserId(clientId)).thenReturn(Optional.of("client@example.com"));
+        when(orderPersistencePort.updateOrderStatus(orderTest, OrderStatus.PENDING)).thenReturn(Optional.empty());
         
         OrderException exception = assertThrows(OrderException.class, () -> 
             orderUseCase.cancelOrder(orderId)
@@ -948,7 +1158,7 @@ class OrderUseCaseTest {
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
         verify(orderPersistencePort).findById(orderId);
-        verify(orderPersistencePort).updateOrderStatus(orderTest);
+        verify(orderPersistencePort).updateOrderStatus(orderTest, OrderStatus.PENDING);
     }
 
     @Test
@@ -959,7 +1169,7 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.of(updatedOrder));
+        when(orderPersistencePort.updateOrderStatus(orderTest, OrderStatus.PENDING)).thenReturn(Optional.of(updatedOrder));
         when(userRoleValidationPort.getEmailByUserId(clientId)).thenReturn(Optional.of("client@example.com"));
         when(traceCommunicationPort.createTrace(any(Traceability.class))).thenReturn(Optional.empty());
 
@@ -967,9 +1177,10 @@ class OrderUseCaseTest {
             orderUseCase.cancelOrder(orderId)
         );
         assertEquals("Failed to create traceability", exception.getMessage());
+        verify(orderEventPublisherPort, never()).publish(any(OrderEvent.class));
         verify(traceCommunicationPort).createTrace(any(Traceability.class));
         verify(orderPersistencePort).findById(orderId);
-        verify(orderPersistencePort).updateOrderStatus(orderTest);
+        verify(orderPersistencePort).updateOrderStatus(orderTest, OrderStatus.PENDING);
         verify(userRoleValidationPort).getEmailByUserId(clientId);
     }
 
@@ -982,7 +1193,6 @@ class OrderUseCaseTest {
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("EMPLOYEE");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(employeeId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.of(orderTest));
         when(userRoleValidationPort.getEmailByUserId(employeeId)).thenReturn(Optional.empty());
 
         OrderException exception = assertThrows(OrderException.class, () -> 
@@ -991,17 +1201,17 @@ class OrderUseCaseTest {
         assertEquals("Employee email not found", exception.getMessage());
         verify(userRoleValidationPort).getEmailByUserId(employeeId);
         verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort, never()).updateOrderStatus(any(Order.class), any(OrderStatus.class));
+        verifyNoInteractions(transactionPort);
     }
 
     @Test
     void FailedToGetClientEmailThrowsException() {
         Order orderTest = createTestOrder(restaurantId, OrderStatus.PENDING);
-        Order updatedOrder = createTestOrder(restaurantId, OrderStatus.CANCELLED);
 
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
         when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
-        when(orderPersistencePort.updateOrderStatus(orderTest)).thenReturn(Optional.of(updatedOrder));
         when(userRoleValidationPort.getEmailByUserId(orderTest.getClientId())).thenReturn(Optional.empty());
 
         OrderException exception = assertThrows(OrderException.class, () -> 
@@ -1009,6 +1219,7 @@ class OrderUseCaseTest {
         );
         assertEquals("Client email not found", exception.getMessage());
         verify(userRoleValidationPort).getEmailByUserId(orderTest.getClientId());
+        verify(orderPersistencePort, never()).updateOrderStatus(any(Order.class), any(OrderStatus.class));
     }
 
     @Test
@@ -1075,14 +1286,14 @@ class OrderUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(clientId);
-        when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
         when(traceCommunicationPort.getTraceByOrderId(orderId)).thenReturn(expectedTraceability);
         List<Traceability> result = orderUseCase.getOrderTraceability(orderId);
         
         assertEquals(expectedTraceability, result);
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort).findHeaderById(orderId);
         verify(traceCommunicationPort).getTraceByOrderId(orderId);
     }
 
@@ -1105,14 +1316,14 @@ class OrderUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("CUSTOMER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(differentClientId);
-        when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(orderTest));
+        when(orderPersistencePort.findHeaderById(orderId)).thenReturn(Optional.of(orderTest));
 
         OrderException exception = assertThrows(OrderException.class, 
             () -> orderUseCase.getOrderTraceability(orderId));
         assertEquals("You are not the owner of this order", exception.getMessage());
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(orderPersistencePort).findById(orderId);
+        verify(orderPersistencePort).findHeaderById(orderId);
         verifyNoInteractions(traceCommunicationPort);
     }
 } 
\ No newline at end of file
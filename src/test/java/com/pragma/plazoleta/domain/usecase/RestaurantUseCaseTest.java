@@ -288,6 +288,23 @@ class RestaurantUseCaseTest {
         assertEquals(restaurant, result);
     }
 
+    @Test
+    void getOwnerIdByRestaurantIdReturnsOwnerIfFound() {
+        when(restaurantPersistencePort.findOwnerIdById(RESTAURANT_ID)).thenReturn(Optional.of(OWNER_ID));
+
+        UUID result = useCase.getOwnerIdByRestaurantId(RESTAURANT_ID);
+        assertEquals(OWNER_ID, result);
+        verify(restaurantPersistencePort, never()).findById(RESTAURANT_ID);
+    }
+
+    @Test
+    void getOwnerIdByRestaurantIdThrowsExceptionIfRestaurantNotFound() {
+        when(restaurantPersistencePort.findOwnerIdById(RESTAURANT_ID)).thenReturn(Optional.empty());
+
+        DomainException ex = assertThrows(DomainException.class, () -> useCase.getOwnerIdByRestaurantId(RESTAURANT_ID));
+        assertEquals("Restaurant not found", ex.getMessage());
+    }
+
     @Test
     void existsByIdReturnsFalseIfRestaurantNotFound() {
         when(restaurantPersistencePort.existsById(RESTAURANT_ID)).thenReturn(false);
@@ -300,7 +317,6 @@ class RestaurantUseCaseTest {
     void getEmployeeAverageTimeSuccessfully() {
         UUID restaurantId = UUID.randomUUID();
         UUID ownerId = UUID.randomUUID();
-        Restaurant restaurant = new Restaurant(restaurantId, "Test Restaurant", 1234L, "Address", "+573000000000", "logo", ownerId);
         List<EmployeeAverageTime> expectedResult = Arrays.asList(
             EmployeeAverageTime.builder()
                 .employeeId(UUID.randomUUID())
@@ -310,14 +326,14 @@ class RestaurantUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("OWNER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(ownerId);
-        when(restaurantPersistencePort.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantPersistencePort.findOwnerIdById(restaurantId)).thenReturn(Optional.of(ownerId));
         when(traceCommunicationPort.getEmployeeAverageTime(restaurantId)).thenReturn(expectedResult);
         List<EmployeeAverageTime> result = useCase.getRestaurantEmployeesRanking(restaurantId);
         
         assertEquals(expectedResult, result);
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(restaurantPersistencePort).findById(restaurantId);
+        verify(restaurantPersistencePort).findOwnerIdById(restaurantId);
         verify(traceCommunicationPort).getEmployeeAverageTime(restaurantId);
     }
 
@@ -326,18 +342,17 @@ class RestaurantUseCaseTest {
         UUID restaurantId = UUID.randomUUID();
         UUID ownerId = UUID.randomUUID();
         UUID differentOwnerId = UUID.randomUUID();
-        Restaurant restaurant = new Restaurant(restaurantId, "Test Restaurant", 1234L, "Address", "+573000000000", "logo", ownerId);
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("OWNER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(differentOwnerId);
-        when(restaurantPersistencePort.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantPersistencePort.findOwnerIdById(restaurantId)).thenReturn(Optional.of(ownerId));
         
         DomainException exception = assertThrows(DomainException.class, 
             () -> useCase.getRestaurantEmployeesRanking(restaurantId));
         assertEquals("You are not the owner of this restaurant", exception.getMessage());
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(restaurantPersistencePort).findById(restaurantId);
+        verify(restaurantPersistencePort).findOwnerIdById(restaurantId);
         verifyNoInteractions(traceCommunicationPort);
     }
 
@@ -358,18 +373,17 @@ class RestaurantUseCaseTest {
         UUID restaurantId = UUID.randomUUID();
         UUID ownerId = UUID.randomUUID();
         UUID differentOwnerId = UUID.randomUUID();
-        Restaurant restaurant = new Restaurant(restaurantId, "Test Restaurant", 1234L, "Address", "+573000000000", "logo", ownerId);
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("OWNER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(differentOwnerId);
-        when(restaurantPersistencePort.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantPersistencePort.findOwnerIdById(restaurantId)).thenReturn(Optional.of(ownerId));
 
         DomainException exception = assertThrows(DomainException.class, 
             () -> useCase.getRestaurantOrdersSummary(restaurantId));
         assertEquals("You are not the owner of this restaurant", exception.getMessage());
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(restaurantPersistencePort).findById(restaurantId);
+        verify(restaurantPersistencePort).findOwnerIdById(restaurantId);
         verifyNoInteractions(traceCommunicationPort);
     }
 
@@ -389,7 +403,6 @@ class RestaurantUseCaseTest {
     void getOrderSummarySuccessfully() {
         UUID restaurantId = UUID.randomUUID();
         UUID ownerId = UUID.randomUUID();
-        Restaurant restaurant = new Restaurant(restaurantId, "Test Restaurant", 1234L, "Address", "+573000000000", "logo", ownerId);
         List<OrderSummary> expectedResult = Arrays.asList(
             OrderSummary.builder()
                 .orderId(UUID.randomUUID())
@@ -402,14 +415,14 @@ class RestaurantUseCaseTest {
         
         when(securityContextPort.getRoleOfUserAutenticated()).thenReturn("OWNER");
         when(securityContextPort.getUserIdOfUserAutenticated()).thenReturn(ownerId);
-        when(restaurantPersistencePort.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantPersistencePort.findOwnerIdById(restaurantId)).thenReturn(Optional.of(ownerId));
         when(traceCommunicationPort.getTraceByRestaurantId(restaurantId)).thenReturn(expectedResult);
         
         List<OrderSummary> result = useCase.getRestaurantOrdersSummary(restaurantId);
         assertEquals(expectedResult, result);
         verify(securityContextPort).getRoleOfUserAutenticated();
         verify(securityContextPort).getUserIdOfUserAutenticated();
-        verify(restaurantPersistencePort).findById(restaurantId);
+        verify(restaurantPersistencePort).findOwnerIdById(restaurantId);
         verify(traceCommunicationPort).getTraceByRestaurantId(restaurantId);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.pragma.plazoleta.domain.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidGeneratorTest {
+
+    @Test
+    void timeOrderedReturnsVersion7WithRfcVariant() {
+        UUID uuid = UuidGenerator.timeOrdered();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void timeOrderedEncodesCurrentTimestampInMostSignificantBits() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidGenerator.timeOrdered();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void timeOrderedSortsByCreationTime() throws InterruptedException {
+        UUID first = UuidGenerator.timeOrdered();
+        Thread.sleep(2);
+        UUID second = UuidGenerator.timeOrdered();
+
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+    }
+}
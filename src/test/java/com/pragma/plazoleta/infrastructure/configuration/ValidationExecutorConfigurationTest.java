@@ -0,0 +1,68 @@
+package com.pragma.plazoleta.infrastructure.configuration;
+
+import com.pragma.plazoleta.infrastructure.output.rest.ForwardedAuthorization;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationExecutorConfigurationTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ValidationExecutorConfiguration().validationExecutor(1, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void taskKeepsAuthorizationHeaderAfterRequestIsRecycled() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        CountDownLatch requestFinished = new CountDownLatch(1);
+
+        CompletableFuture<String> forwarded = CompletableFuture.supplyAsync(() -> {
+            try {
+                assertTrue(requestFinished.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ForwardedAuthorization.current();
+        }, executor);
+        RequestContextHolder.resetRequestAttributes();
+        request.removeHeader("Authorization");
+        requestFinished.countDown();
+
+        assertEquals("Bearer token", forwarded.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void taskDoesNotLeakAuthorizationHeaderToNextTask() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        CompletableFuture.runAsync(() -> { }, executor).get(5, TimeUnit.SECONDS);
+        RequestContextHolder.resetRequestAttributes();
+
+        String forwarded = CompletableFuture.supplyAsync(ForwardedAuthorization::current, executor)
+                .get(5, TimeUnit.SECONDS);
+
+        assertNull(forwarded);
+    }
+}
@@ -0,0 +1,168 @@
+package com.pragma.plazoleta.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazoleta.application.dto.request.DishImportRequest;
+import com.pragma.plazoleta.application.dto.response.DishImportResponse;
+import com.pragma.plazoleta.application.handler.IDishHandler;
+import com.pragma.plazoleta.domain.exception.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonDishImporterTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_LINE_LENGTH = 200;
+
+    @Mock
+    private IDishHandler dishHandler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private NdjsonDishImporter importer;
+    private List<List<Long>> chunks;
+
+    @BeforeEach
+    void setUp() {
+        importer = new NdjsonDishImporter(dishHandler, objectMapper, CHUNK_SIZE, MAX_LINE_LENGTH);
+        chunks = new ArrayList<>();
+    }
+
+    private static String dishLine(String name) {
+        return "{\"name\":\"" + name + "\",\"price\":10000,\"description\":\"Description\","
+                + "\"imageUrl\":\"https://example.com/dish.png\",\"categoryName\":\"Main\"}";
+    }
+
+    /**
+     * The importer reuses its chunk lists, so the lines of each call are copied when it is made.
+     */
+    private Answer<List<DishImportResponse>> created() {
+        return invocation -> {
+            List<Long> lines = new ArrayList<>(invocation.<List<Long>>getArgument(1));
+            List<DishImportRequest> rows = invocation.getArgument(2);
+            chunks.add(lines);
+            List<DishImportResponse> results = new ArrayList<>();
+            for (int i = 0; i < lines.size(); i++) {
+                results.add(DishImportResponse.builder()
+                        .line(lines.get(i))
+                        .name(rows.get(i).getName())
+                        .dishId("dish-" + lines.get(i))
+                        .created(true)
+                        .build());
+            }
+            return results;
+        };
+    }
+
+    private List<DishImportResponse> importLines(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        importer.importDishes(RESTAURANT_ID, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+        List<DishImportResponse> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readValue(line, DishImportResponse.class));
+            }
+        }
+        return results;
+    }
+
+    @Test
+    void blankLinesAreSkippedWithoutSplittingTheChunk() throws IOException {
+        when(dishHandler.importDishes(eq(RESTAURANT_ID), anyList(), anyList())).thenAnswer(created());
+
+        List<DishImportResponse> results = importLines(dishLine("A") + "\n\n   \n" + dishLine("B") + "\n" + dishLine("C") + "\n");
+
+        assertEquals(List.of(List.of(1L, 4L), List.of(5L)), chunks);
+        assertEquals(List.of(1L, 4L, 5L), results.stream().map(DishImportResponse::getLine).toList());
+        assertTrue(results.stream().allMatch(DishImportResponse::isCreated));
+    }
+
+    @Test
+    void malformedLineIsReportedInLineOrder() throws IOException {
+        when(dishHandler.importDishes(eq(RESTAURANT_ID), anyList(), anyList())).thenAnswer(created());
+
+        List<DishImportResponse> results = importLines(dishLine("A") + "\nnot json\n" + dishLine("B") + "\n");
+
+        assertEquals(List.of(1L, 2L, 3L), results.stream().map(DishImportResponse::getLine).toList());
+        assertFalse(results.get(1).isCreated());
+        assertEquals("Line is not a valid dish JSON object", results.get(1).getError());
+    }
+
+    @Test
+    void failedChunkReportsEveryLineAndImportContinues() throws IOException {
+        when(dishHandler.importDishes(eq(RESTAURANT_ID), anyList(), anyList()))
+                .thenThrow(new IllegalStateException("Deadlock found"))
+                .thenAnswer(created());
+
+        List<DishImportResponse> results = importLines(
+                dishLine("A") + "\n" + dishLine("B") + "\n" + dishLine("C") + "\n");
+
+        assertEquals(3, results.size());
+        assertEquals(1L, results.get(0).getLine());
+        assertEquals("A", results.get(0).getName());
+        assertFalse(results.get(0).isCreated());
+        assertEquals(2L, results.get(1).getLine());
+        assertFalse(results.get(1).isCreated());
+        assertNotNull(results.get(1).getError());
+        assertFalse(results.get(1).getError().contains("Deadlock"));
+        assertEquals(3L, results.get(2).getLine());
+        assertTrue(results.get(2).isCreated());
+    }
+
+    @Test
+    void domainFailureMessageIsReportedForEachLine() throws IOException {
+        when(dishHandler.importDishes(eq(RESTAURANT_ID), anyList(), anyList()))
+                .thenThrow(new DomainException("Only the owner of the restaurant can create dishes"));
+
+        List<DishImportResponse> results = importLines(dishLine("A") + "\n" + dishLine("B") + "\n");
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(result ->
+                "Only the owner of the restaurant can create dishes".equals(result.getError())));
+    }
+
+    @Test
+    void tooLongLineIsRejectedAndNextLineIsRead() throws IOException {
+        when(dishHandler.importDishes(eq(RESTAURANT_ID), anyList(), anyList())).thenAnswer(created());
+
+        List<DishImportResponse> results = importLines("x".repeat(MAX_LINE_LENGTH * 10) + "\n" + dishLine("A") + "\n");
+
+        assertEquals(2, results.size());
+        assertEquals(1L, results.get(0).getLine());
+        assertEquals("Line is longer than " + MAX_LINE_LENGTH + " characters", results.get(0).getError());
+        assertEquals(2L, results.get(1).getLine());
+        assertTrue(results.get(1).isCreated());
+    }
+
+    @Test
+    void windowsLineEndingsAreAccepted() throws IOException {
+        when(dishHandler.importDishes(eq(RESTAURANT_ID), anyList(), anyList())).thenAnswer(created());
+
+        List<DishImportResponse> results = importLines(dishLine("A") + "\r\n\r\n" + dishLine("B") + "\r\n");
+
+        assertEquals(List.of(List.of(1L, 3L)), chunks);
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    void emptyBodyWritesNothing() throws IOException {
+        assertTrue(importLines("").isEmpty());
+        verifyNoInteractions(dishHandler);
+    }
+}
@@ -0,0 +1,151 @@
+package com.pragma.plazoleta.infrastructure.output.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.domain.model.DomainPage;
+import com.pragma.plazoleta.domain.spi.IDishPersistencePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedDishPersistenceAdapterTest {
+    private static final int CATEGORY_ID = 1;
+
+    @Mock
+    private IDishPersistencePort delegate;
+
+    private CachedDishPersistenceAdapter adapter;
+    private ExecutorService executor;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedDishPersistenceAdapter(delegate, Caffeine.newBuilder().<MenuPageKey, DomainPage<Dish>>build());
+        restaurantId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private DomainPage<Dish> page() {
+        return DomainPage.<Dish>builder()
+                .content(List.of())
+                .pageNumber(0)
+                .pageSize(10)
+                .totalElements(0)
+                .build();
+    }
+
+    private Dish dish(int categoryId) {
+        return new Dish(UUID.randomUUID(), "Dish", 10000, "Description", "https://example.com/dish.png",
+                categoryId, restaurantId, true);
+    }
+
+    private DomainPage<Dish> menu(Optional<Integer> categoryId) {
+        return adapter.getDishesByRestaurant(restaurantId, categoryId, 0, 10);
+    }
+
+    @Test
+    void repeatedReadIsServedFromCache() {
+        when(delegate.getMenuVersion(restaurantId)).thenReturn(1L);
+        when(delegate.getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10)).thenReturn(page());
+
+        DomainPage<Dish> first = menu(Optional.empty());
+        DomainPage<Dish> second = menu(Optional.empty());
+
+        assertSame(first, second);
+        verify(delegate, times(1)).getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10);
+    }
+
+    @Test
+    void newMenuVersionReloadsFullMenuAndCategories() {
+        when(delegate.getMenuVersion(restaurantId)).thenReturn(1L, 1L, 2L, 2L);
+        when(delegate.getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10)).thenReturn(page(), page());
+        when(delegate.getDishesByRestaurant(restaurantId, Optional.of(CATEGORY_ID), 0, 10)).thenReturn(page(), page());
+        DomainPage<Dish> fullBefore = menu(Optional.empty());
+        DomainPage<Dish> categoryBefore = menu(Optional.of(CATEGORY_ID));
+
+        assertNotSame(fullBefore, menu(Optional.empty()));
+        assertNotSame(categoryBefore, menu(Optional.of(CATEGORY_ID)));
+        verify(delegate, times(2)).getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10);
+        verify(delegate, times(2)).getDishesByRestaurant(restaurantId, Optional.of(CATEGORY_ID), 0, 10);
+    }
+
+    @Test
+    void newMenuVersionKeepsOtherRestaurantsCached() {
+        UUID otherRestaurantId = UUID.randomUUID();
+        when(delegate.getMenuVersion(restaurantId)).thenReturn(1L, 2L);
+        when(delegate.getMenuVersion(otherRestaurantId)).thenReturn(5L);
+        when(delegate.getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10)).thenReturn(page(), page());
+        when(delegate.getDishesByRestaurant(otherRestaurantId, Optional.empty(), 0, 10)).thenReturn(page());
+        DomainPage<Dish> otherBefore = adapter.getDishesByRestaurant(otherRestaurantId, Optional.empty(), 0, 10);
+
+        menu(Optional.empty());
+        menu(Optional.empty());
+
+        assertSame(otherBefore, adapter.getDishesByRestaurant(otherRestaurantId, Optional.empty(), 0, 10));
+        verify(delegate, times(1)).getDishesByRestaurant(otherRestaurantId, Optional.empty(), 0, 10);
+    }
+
+    @Test
+    void writesAreDelegated() {
+        Dish dish = dish(CATEGORY_ID);
+        when(delegate.updateDish(dish)).thenReturn(true);
+
+        assertTrue(adapter.updateDish(dish));
+
+        verify(delegate).updateDish(dish);
+        verify(delegate, never()).getMenuVersion(any());
+    }
+
+    @Test
+    void concurrentMissesWaitForSingleLoad() throws Exception {
+        int callers = 8;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DomainPage<Dish> loaded = page();
+        when(delegate.getMenuVersion(restaurantId)).thenReturn(1L);
+        when(delegate.getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return loaded;
+        });
+        executor = Executors.newFixedThreadPool(callers);
+        List<Future<DomainPage<Dish>>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> menu(Optional.empty())));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < callers; i++) {
+            results.add(executor.submit(() -> menu(Optional.empty())));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<DomainPage<Dish>> result : results) {
+            assertSame(loaded, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).getDishesByRestaurant(restaurantId, Optional.empty(), 0, 10);
+    }
+}
@@ -0,0 +1,58 @@
+package com.pragma.plazoleta.infrastructure.output.event;
+
+import com.pragma.plazoleta.domain.model.OrderEvent;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusWatcherTest {
+    private final OrderStatusWatcher watcher = new OrderStatusWatcher();
+    private final UUID orderId = UUID.randomUUID();
+
+    private OrderEvent event(OrderStatus status) {
+        return OrderEvent.builder().orderId(orderId).status(status).build();
+    }
+
+    @Test
+    void watchCompletesAtOnceWhenOrderAlreadyLeftStatus() {
+        CompletableFuture<OrderStatus> change = watcher.watch(orderId, OrderStatus.PENDING, () -> OrderStatus.READY);
+
+        assertEquals(OrderStatus.READY, change.getNow(null));
+    }
+
+    @Test
+    void publishCompletesWaiterWhenStatusChanges() {
+        CompletableFuture<OrderStatus> change = watcher.watch(orderId, OrderStatus.PENDING, () -> OrderStatus.PENDING);
+
+        watcher.publish(event(OrderStatus.PENDING));
+        assertFalse(change.isDone());
+        watcher.publish(event(OrderStatus.IN_PREPARATION));
+
+        assertEquals(OrderStatus.IN_PREPARATION, change.getNow(null));
+    }
+
+    @Test
+    void cancelledWaiterIsNotCompleted() {
+        CompletableFuture<OrderStatus> change = watcher.watch(orderId, OrderStatus.PENDING, () -> OrderStatus.PENDING);
+
+        change.cancel(false);
+        watcher.publish(event(OrderStatus.CANCELLED));
+
+        assertTrue(change.isCancelled());
+    }
+
+    @Test
+    void failedStatusReadDoesNotLeaveWaiter() {
+        assertThrows(IllegalStateException.class, () -> watcher.watch(orderId, OrderStatus.PENDING, () -> {
+            throw new IllegalStateException("Order not found");
+        }));
+
+        CompletableFuture<OrderStatus> change = watcher.watch(orderId, OrderStatus.PENDING, () -> OrderStatus.PENDING);
+        watcher.publish(event(OrderStatus.READY));
+        assertEquals(OrderStatus.READY, change.getNow(null));
+    }
+}
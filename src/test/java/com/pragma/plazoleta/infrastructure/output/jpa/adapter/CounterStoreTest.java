@@ -0,0 +1,95 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ICounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CounterStoreTest {
+    private static final int STRIPES = 4;
+
+    @Mock
+    private ICounterRepository counterRepository;
+
+    private CounterStore counterStore;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        counterStore = new CounterStore(counterRepository, STRIPES, Duration.ofMinutes(1));
+        key = CounterStore.ordersKey(UUID.randomUUID(), OrderStatusEntity.PENDING);
+    }
+
+    @Test
+    void addWritesDeltaToOneOfTheStripes() {
+        for (int i = 0; i < 50; i++) {
+            counterStore.add(key, 1);
+        }
+
+        verify(counterRepository, times(50)).add(eq(key), intThat(slot -> slot >= 0 && slot < STRIPES), eq(1L));
+    }
+
+    @Test
+    void getSumsStripesOnceWhileCached() {
+        when(counterRepository.sumByCounterKey(key)).thenReturn(7L);
+
+        assertEquals(7L, counterStore.get(key));
+        assertEquals(7L, counterStore.get(key));
+
+        verify(counterRepository, times(1)).sumByCounterKey(key);
+    }
+
+    @Test
+    void addInvalidatesCachedTotal() {
+        when(counterRepository.sumByCounterKey(key)).thenReturn(7L, 6L);
+
+        assertEquals(7L, counterStore.get(key));
+        counterStore.add(key, -1);
+
+        assertEquals(6L, counterStore.get(key));
+        verify(counterRepository, times(2)).sumByCounterKey(key);
+    }
+
+    @Test
+    void addInsideTransactionInvalidatesCachedTotalAfterCommit() {
+        when(counterRepository.sumByCounterKey(key)).thenReturn(7L, 6L);
+        assertEquals(7L, counterStore.get(key));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterStore.add(key, -1);
+            assertEquals(7L, counterStore.get(key));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(6L, counterStore.get(key));
+    }
+
+    @Test
+    void keysAreScopedByRestaurantStatusAndCategory() {
+        UUID restaurantId = UUID.randomUUID();
+
+        assertNotEquals(CounterStore.ordersKey(restaurantId, OrderStatusEntity.PENDING),
+                CounterStore.ordersKey(restaurantId, OrderStatusEntity.READY));
+        assertNotEquals(CounterStore.activeDishesKey(restaurantId),
+                CounterStore.activeDishesKey(restaurantId, 1));
+        assertNotEquals(CounterStore.activeDishesKey(restaurantId, 1),
+                CounterStore.activeDishesKey(restaurantId, 2));
+    }
+}
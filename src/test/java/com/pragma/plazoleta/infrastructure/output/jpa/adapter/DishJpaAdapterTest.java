@@ -0,0 +1,165 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.model.Dish;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.DishEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.MenuVersionEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IDishEntityMapper;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IMenuVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DishJpaAdapterTest {
+    private static final int CATEGORY_ID = 1;
+    private static final int OTHER_CATEGORY_ID = 2;
+
+    @Mock
+    private IDishRepository repository;
+    @Mock
+    private IMenuVersionRepository menuVersionRepository;
+    @Mock
+    private IDishEntityMapper mapper;
+
+    private InMemoryCounters counters;
+    private DishJpaAdapter adapter;
+    private UUID restaurantId;
+    private String restaurantKey;
+    private String categoryKey;
+
+    @BeforeEach
+    void setUp() {
+        counters = new InMemoryCounters();
+        adapter = new DishJpaAdapter(repository, menuVersionRepository, mapper, counters.store());
+        restaurantId = UUID.randomUUID();
+        restaurantKey = CounterStore.activeDishesKey(restaurantId);
+        categoryKey = CounterStore.activeDishesKey(restaurantId, CATEGORY_ID);
+        counters.set(restaurantKey, 3);
+        counters.set(categoryKey, 2);
+    }
+
+    private Dish dish(int categoryId, boolean active) {
+        return new Dish(UUID.randomUUID(), "Dish", 10000, "Description", "https://example.com/dish.png",
+                categoryId, restaurantId, active);
+    }
+
+    private DishEntity entityOf(Dish dish) {
+        DishEntity entity = new DishEntity();
+        entity.setId(dish.getId());
+        entity.setCategoryId(dish.getCategoryId());
+        entity.setRestaurantId(dish.getRestaurantId());
+        entity.setActive(dish.isActive());
+        return entity;
+    }
+
+    @Test
+    void updateDishActiveDeactivatingDecrementsCounters() {
+        Dish dish = dish(CATEGORY_ID, false);
+        when(mapper.toDishEntity(dish)).thenReturn(entityOf(dish));
+        when(repository.updateActive(eq(dish.getId()), eq(false), anyLong(), any())).thenReturn(1);
+
+        assertTrue(adapter.updateDishActive(dish));
+
+        assertEquals(2L, counters.get(restaurantKey));
+        assertEquals(1L, counters.get(categoryKey));
+    }
+
+    @Test
+    void updateDishActiveActivatingIncrementsCounters() {
+        Dish dish = dish(CATEGORY_ID, true);
+        when(mapper.toDishEntity(dish)).thenReturn(entityOf(dish));
+        when(repository.updateActive(eq(dish.getId()), eq(true), anyLong(), any())).thenReturn(1);
+
+        assertTrue(adapter.updateDishActive(dish));
+
+        assertEquals(4L, counters.get(restaurantKey));
+        assertEquals(3L, counters.get(categoryKey));
+    }
+
+    @Test
+    void updateDishActiveNoOpLeavesCountersUnchanged() {
+        Dish dish = dish(CATEGORY_ID, true);
+        when(mapper.toDishEntity(dish)).thenReturn(entityOf(dish));
+        when(repository.updateActive(eq(dish.getId()), eq(true), anyLong(), any())).thenReturn(0);
+        when(repository.existsById(dish.getId())).thenReturn(true);
+
+        assertTrue(adapter.updateDishActive(dish));
+
+        assertEquals(3L, counters.get(restaurantKey));
+        assertEquals(2L, counters.get(categoryKey));
+        verify(counters.repository(), never()).add(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void updateDishActiveMissingDishReturnsFalse() {
+        Dish dish = dish(CATEGORY_ID, false);
+        when(mapper.toDishEntity(dish)).thenReturn(entityOf(dish));
+        when(repository.updateActive(eq(dish.getId()), eq(false), anyLong(), any())).thenReturn(0);
+        when(repository.existsById(dish.getId())).thenReturn(false);
+
+        assertFalse(adapter.updateDishActive(dish));
+
+        assertEquals(3L, counters.get(restaurantKey));
+        verify(counters.repository(), never()).add(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void updateDishLeavesCountersUnchanged() {
+        Dish dish = dish(CATEGORY_ID, true);
+        when(mapper.toDishEntity(dish)).thenReturn(entityOf(dish));
+        when(repository.updatePriceAndDescription(eq(dish.getId()), any(), any(), anyLong(), any())).thenReturn(1);
+
+        assertTrue(adapter.updateDish(dish));
+
+        verify(counters.repository(), never()).add(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void saveAllAddsActiveDishesOncePerCounter() {
+        List<Dish> dishes = List.of(dish(CATEGORY_ID, true), dish(CATEGORY_ID, true),
+                dish(OTHER_CATEGORY_ID, true), dish(CATEGORY_ID, false));
+        dishes.forEach(dish -> when(mapper.toDishEntity(dish)).thenReturn(entityOf(dish)));
+        when(menuVersionRepository.findVersionByRestaurantId(restaurantId)).thenReturn(4L);
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(4, adapter.saveAll(dishes).size());
+
+        String otherCategoryKey = CounterStore.activeDishesKey(restaurantId, OTHER_CATEGORY_ID);
+        assertEquals(6L, counters.get(restaurantKey));
+        assertEquals(4L, counters.get(categoryKey));
+        assertEquals(1L, counters.get(otherCategoryKey));
+        verify(counters.repository()).add(eq(restaurantKey), anyInt(), eq(3L));
+        verify(counters.repository()).add(eq(categoryKey), anyInt(), eq(2L));
+        verify(counters.repository()).add(eq(otherCategoryKey), anyInt(), eq(1L));
+        verify(menuVersionRepository).increment(any(), eq(4L));
+    }
+
+    @Test
+    void menuVersionIsZeroBeforeFirstDishWrite() {
+        when(menuVersionRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        assertEquals(0L, adapter.getMenuVersion(restaurantId));
+    }
+
+    @Test
+    void menuVersionIsReadFromVersionRow() {
+        when(menuVersionRepository.findById(restaurantId)).thenReturn(Optional.of(new MenuVersionEntity(restaurantId, 7L)));
+
+        assertEquals(7L, adapter.getMenuVersion(restaurantId));
+    }
+}
@@ -0,0 +1,152 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.exception.IdempotencyConflictException;
+import com.pragma.plazoleta.domain.exception.IdempotencyKeyReuseException;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.IdempotencyKeyEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.IdempotencyKeyId;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyJpaAdapterTest {
+    private static final String KEY = "key-1";
+    private static final String HASH = "hash-1";
+    private static final String RESPONSE = "{\"id\":\"order\"}";
+
+    @Mock
+    private IIdempotencyKeyRepository repository;
+
+    private IdempotencyJpaAdapter adapter;
+    private UUID userId;
+    private IdempotencyKeyId id;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new IdempotencyJpaAdapter(repository, Duration.ofHours(24), Duration.ofMinutes(1), 100);
+        userId = UUID.randomUUID();
+        id = new IdempotencyKeyId(userId, KEY);
+    }
+
+    private IdempotencyKeyEntity stored(String requestHash, String response, LocalDateTime createdAt) {
+        return IdempotencyKeyEntity.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .response(response)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private void keyAlreadyReserved() {
+        when(repository.saveAndFlush(any(IdempotencyKeyEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+    }
+
+    @Test
+    void reserveNewKeyInsertsInFlightRow() {
+        when(repository.saveAndFlush(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<String> result = adapter.reserve(userId, KEY, HASH);
+
+        assertTrue(result.isEmpty());
+        verify(repository).saveAndFlush(argThat(entity ->
+                entity.getId().equals(id) && HASH.equals(entity.getRequestHash()) && entity.getResponse() == null));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void reserveCompletedKeyWithSameBodyReturnsStoredResponse() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored(HASH, RESPONSE, LocalDateTime.now().minusMinutes(5))));
+
+        assertEquals(Optional.of(RESPONSE), adapter.reserve(userId, KEY, HASH));
+        assertEquals(Optional.of(RESPONSE), adapter.reserve(userId, KEY, HASH));
+
+        verify(repository, times(1)).findById(id);
+        verify(repository, never()).takeOver(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void reserveCompletedKeyWithDifferentBodyIsRejected() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored(HASH, RESPONSE, LocalDateTime.now().minusMinutes(5))));
+
+        assertThrows(IdempotencyKeyReuseException.class, () -> adapter.reserve(userId, KEY, "other-hash"));
+    }
+
+    @Test
+    void reserveKeyStoredWithoutHashReplaysResponse() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored(null, RESPONSE, LocalDateTime.now().minusMinutes(5))));
+
+        assertEquals(Optional.of(RESPONSE), adapter.reserve(userId, KEY, HASH));
+    }
+
+    @Test
+    void reserveKeyInFlightIsConflict() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored(HASH, null, LocalDateTime.now().minusSeconds(5))));
+
+        assertThrows(IdempotencyConflictException.class, () -> adapter.reserve(userId, KEY, HASH));
+        verify(repository, never()).takeOver(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void reserveExpiredKeyTakesItOver() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored("old-hash", RESPONSE, LocalDateTime.now().minusHours(25))));
+        when(repository.takeOver(eq(id), eq(HASH), any(), any(), any())).thenReturn(1);
+
+        assertTrue(adapter.reserve(userId, KEY, HASH).isEmpty());
+    }
+
+    @Test
+    void reserveAbandonedReservationTakesItOver() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored(HASH, null, LocalDateTime.now().minusMinutes(5))));
+        when(repository.takeOver(eq(id), eq(HASH), any(), any(), any())).thenReturn(1);
+
+        assertTrue(adapter.reserve(userId, KEY, HASH).isEmpty());
+    }
+
+    @Test
+    void reserveExpiredKeyTakenOverByAnotherRequestIsConflict() {
+        keyAlreadyReserved();
+        when(repository.findById(id)).thenReturn(Optional.of(stored(HASH, RESPONSE, LocalDateTime.now().minusHours(25))));
+        when(repository.takeOver(eq(id), eq(HASH), any(), any(), any())).thenReturn(0);
+
+        assertThrows(IdempotencyConflictException.class, () -> adapter.reserve(userId, KEY, HASH));
+    }
+
+    @Test
+    void saveResponseAnswersRetriesFromMemory() {
+        when(repository.complete(id, RESPONSE)).thenReturn(1);
+
+        adapter.saveResponse(userId, KEY, HASH, RESPONSE);
+
+        assertEquals(Optional.of(RESPONSE), adapter.reserve(userId, KEY, HASH));
+        assertThrows(IdempotencyKeyReuseException.class, () -> adapter.reserve(userId, KEY, "other-hash"));
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void releaseDeletesReservation() {
+        adapter.release(userId, KEY);
+
+        verify(repository).release(id);
+    }
+}
@@ -0,0 +1,52 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ICounterRepository;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A real CounterStore over a counters table kept in a map, so adapter tests can check the totals a
+ * paged query would report after a change.
+ */
+final class InMemoryCounters {
+    private final Map<String, Long> rows = new HashMap<>();
+    private final ICounterRepository repository = mock(ICounterRepository.class,
+            withSettings().strictness(Strictness.LENIENT));
+    private final CounterStore store = new CounterStore(repository, 4, Duration.ofMinutes(1));
+
+    InMemoryCounters() {
+        doAnswer(invocation -> {
+            rows.merge(invocation.getArgument(0), invocation.getArgument(2), Long::sum);
+            return null;
+        }).when(repository).add(anyString(), anyInt(), anyLong());
+        when(repository.sumByCounterKey(anyString()))
+                .thenAnswer(invocation -> rows.getOrDefault(invocation.<String>getArgument(0), 0L));
+    }
+
+    CounterStore store() {
+        return store;
+    }
+
+    ICounterRepository repository() {
+        return repository;
+    }
+
+    void set(String counterKey, long value) {
+        rows.put(counterKey, value);
+    }
+
+    long get(String counterKey) {
+        return store.get(counterKey);
+    }
+}
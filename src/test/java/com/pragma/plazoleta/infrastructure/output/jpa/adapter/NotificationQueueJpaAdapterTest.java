@@ -0,0 +1,131 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.model.Notification;
+import com.pragma.plazoleta.domain.model.NotificationResult;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationQueueEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.INotificationQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationQueueJpaAdapterTest {
+
+    @Mock
+    private INotificationQueueRepository notificationQueueRepository;
+
+    @InjectMocks
+    private NotificationQueueJpaAdapter adapter;
+
+    private UUID orderId;
+    private Notification notification;
+
+    @BeforeEach
+    void setUp() {
+        orderId = UUID.randomUUID();
+        notification = new Notification(orderId, "Your order is ready", "+573000000000");
+    }
+
+    private NotificationQueueEntity entry(NotificationStatusEntity status, int attempts) {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        return NotificationQueueEntity.builder()
+                .id(1L)
+                .orderId(orderId)
+                .phoneNumber(notification.getPhoneNumber())
+                .message(notification.getMessage())
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(createdAt)
+                .lastError(attempts > 0 ? "feign.RetryableException: Read timed out" : null)
+                .createdAt(createdAt)
+                .sentAt(status == NotificationStatusEntity.SENT ? createdAt.plusSeconds(1) : null)
+                .build();
+    }
+
+    @Test
+    void sendMessageQueuesNewNotification() {
+        when(notificationQueueRepository.findByOrderId(orderId)).thenReturn(Optional.empty());
+        when(notificationQueueRepository.saveAndFlush(any(NotificationQueueEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<NotificationResult> result = adapter.sendMessage(notification);
+
+        assertTrue(result.isPresent());
+        assertEquals("QUEUED", result.get().getStatus());
+        ArgumentCaptor<NotificationQueueEntity> saved = ArgumentCaptor.forClass(NotificationQueueEntity.class);
+        verify(notificationQueueRepository).saveAndFlush(saved.capture());
+        assertEquals(NotificationStatusEntity.QUEUED, saved.getValue().getStatus());
+        assertEquals(0, saved.getValue().getAttempts());
+        assertFalse(saved.getValue().getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void sendMessageReturnsQueuedEntryWithoutResettingIt() {
+        NotificationQueueEntity queued = entry(NotificationStatusEntity.QUEUED, 2);
+        when(notificationQueueRepository.findByOrderId(orderId)).thenReturn(Optional.of(queued));
+
+        Optional<NotificationResult> result = adapter.sendMessage(notification);
+
+        assertEquals("QUEUED", result.orElseThrow().getStatus());
+        assertEquals(2, queued.getAttempts());
+        verify(notificationQueueRepository, never()).save(any());
+        verify(notificationQueueRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void sendMessageReportsAlreadySentNotification() {
+        NotificationQueueEntity sent = entry(NotificationStatusEntity.SENT, 1);
+        when(notificationQueueRepository.findByOrderId(orderId)).thenReturn(Optional.of(sent));
+
+        NotificationResult result = adapter.sendMessage(notification).orElseThrow();
+
+        assertEquals("SENT", result.getStatus());
+        assertEquals("Notification already sent", result.getMessage());
+        assertEquals(sent.getSentAt().toString(), result.getTimestamp());
+        verify(notificationQueueRepository, never()).save(any());
+    }
+
+    @Test
+    void sendMessageRequeuesFailedNotification() {
+        NotificationQueueEntity failed = entry(NotificationStatusEntity.FAILED, 5);
+        when(notificationQueueRepository.findByOrderId(orderId)).thenReturn(Optional.of(failed));
+        when(notificationQueueRepository.save(failed)).thenReturn(failed);
+
+        NotificationResult result = adapter.sendMessage(notification).orElseThrow();
+
+        assertEquals("QUEUED", result.getStatus());
+        assertEquals(NotificationStatusEntity.QUEUED, failed.getStatus());
+        assertEquals(0, failed.getAttempts());
+        assertNull(failed.getLastError());
+        assertFalse(failed.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void sendMessageRacingInsertReturnsWinningEntry() {
+        NotificationQueueEntity winner = entry(NotificationStatusEntity.QUEUED, 0);
+        when(notificationQueueRepository.findByOrderId(orderId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(notificationQueueRepository.saveAndFlush(any(NotificationQueueEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        NotificationResult result = adapter.sendMessage(notification).orElseThrow();
+
+        assertEquals("QUEUED", result.getStatus());
+        assertEquals(winner.getCreatedAt().toString(), result.getTimestamp());
+    }
+}
@@ -0,0 +1,144 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.adapter;
+
+import com.pragma.plazoleta.domain.model.Order;
+import com.pragma.plazoleta.domain.model.OrderStatus;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.OrderStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.mapper.IOrderEntityMapper;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderJpaAdapterTest {
+    @Mock
+    private IOrderRepository orderRepository;
+    @Mock
+    private IOrderEntityMapper orderEntityMapper;
+
+    private InMemoryCounters counters;
+    private OrderJpaAdapter adapter;
+    private UUID restaurantId;
+    private String pendingKey;
+    private String inPreparationKey;
+
+    @BeforeEach
+    void setUp() {
+        counters = new InMemoryCounters();
+        adapter = new OrderJpaAdapter(orderRepository, orderEntityMapper, counters.store());
+        restaurantId = UUID.randomUUID();
+        pendingKey = CounterStore.ordersKey(restaurantId, OrderStatusEntity.PENDING);
+        inPreparationKey = CounterStore.ordersKey(restaurantId, OrderStatusEntity.IN_PREPARATION);
+        counters.set(pendingKey, 2);
+        counters.set(inPreparationKey, 1);
+    }
+
+    private Order order(OrderStatus status) {
+        return Order.builder()
+                .id(UUID.randomUUID())
+                .clientId(UUID.randomUUID())
+                .date(LocalDateTime.now())
+                .status(status)
+                .chefId(UUID.randomUUID())
+                .restaurantId(restaurantId)
+                .build();
+    }
+
+    @Test
+    void saveOrderIncrementsStatusCounter() {
+        Order order = order(OrderStatus.PENDING);
+        OrderEntity entity = OrderEntity.builder()
+                .id(order.getId())
+                .restaurantId(restaurantId)
+                .status(OrderStatusEntity.PENDING)
+                .orderDishes(new ArrayList<>())
+                .build();
+        when(orderEntityMapper.toOrderEntity(order)).thenReturn(entity);
+        when(orderRepository.saveAndFlush(entity)).thenReturn(entity);
+        when(orderEntityMapper.toOrder(entity)).thenReturn(order);
+
+        assertSame(order, adapter.saveOrder(order));
+
+        assertEquals(3L, counters.get(pendingKey));
+    }
+
+    @Test
+    void transitionMovesOrderBetweenStatusCounters() {
+        Order order = order(OrderStatus.IN_PREPARATION);
+        when(orderRepository.updateChefId(order.getId(), order.getChefId(),
+                OrderStatusEntity.IN_PREPARATION, OrderStatusEntity.PENDING)).thenReturn(1);
+
+        assertEquals(Optional.of(order), adapter.updateOrderStatusAndChefId(order, OrderStatus.PENDING));
+
+        assertEquals(1L, counters.get(pendingKey));
+        assertEquals(2L, counters.get(inPreparationKey));
+    }
+
+    @Test
+    void cancelMovesOrderToCancelledCounter() {
+        Order order = order(OrderStatus.CANCELLED);
+        when(orderRepository.updateOrderStatus(order.getId(),
+                OrderStatusEntity.CANCELLED, OrderStatusEntity.PENDING)).thenReturn(1);
+
+        assertTrue(adapter.updateOrderStatus(order, OrderStatus.PENDING).isPresent());
+
+        assertEquals(1L, counters.get(pendingKey));
+        assertEquals(1L, counters.get(CounterStore.ordersKey(restaurantId, OrderStatusEntity.CANCELLED)));
+    }
+
+    @Test
+    void lostTransitionLeavesCountersUnchanged() {
+        Order order = order(OrderStatus.IN_PREPARATION);
+        when(orderRepository.updateChefId(order.getId(), order.getChefId(),
+                OrderStatusEntity.IN_PREPARATION, OrderStatusEntity.PENDING)).thenReturn(0);
+
+        assertTrue(adapter.updateOrderStatusAndChefId(order, OrderStatus.PENDING).isEmpty());
+
+        assertEquals(2L, counters.get(pendingKey));
+        assertEquals(1L, counters.get(inPreparationKey));
+        verify(counters.repository(), never()).add(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void claimNextPendingOrderMovesCounters() {
+        UUID chefId = UUID.randomUUID();
+        OrderEntity entity = OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .restaurantId(restaurantId)
+                .status(OrderStatusEntity.PENDING)
+                .build();
+        when(orderRepository.lockOldestPendingOrder(any())).thenReturn(Optional.of(entity));
+        when(orderEntityMapper.toOrder(entity)).thenReturn(order(OrderStatus.IN_PREPARATION));
+
+        assertTrue(adapter.claimNextPendingOrder(restaurantId, chefId).isPresent());
+
+        assertEquals(OrderStatusEntity.IN_PREPARATION, entity.getStatus());
+        assertEquals(chefId, entity.getChefId());
+        assertEquals(1L, counters.get(pendingKey));
+        assertEquals(2L, counters.get(inPreparationKey));
+    }
+
+    @Test
+    void claimWithoutPendingOrdersLeavesCountersUnchanged() {
+        when(orderRepository.lockOldestPendingOrder(any())).thenReturn(Optional.empty());
+
+        assertTrue(adapter.claimNextPendingOrder(restaurantId, UUID.randomUUID()).isEmpty());
+
+        verify(counters.repository(), never()).add(anyString(), anyInt(), anyLong());
+    }
+}
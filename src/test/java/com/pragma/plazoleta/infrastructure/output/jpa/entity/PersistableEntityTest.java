@@ -0,0 +1,128 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.entity;
+
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IDishRepository;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.IOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ids are assigned by the application, so these entities implement Persistable to have save
+ * call persist instead of merge. Merge would select each row first and return a copy instead
+ * of the instance that was passed in, which is what these tests check for.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PersistableEntityTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = OrderEntity.class)
+    @EnableJpaRepositories(basePackageClasses = IOrderRepository.class)
+    static class JpaConfiguration {
+    }
+
+    @Autowired
+    private IOrderRepository orderRepository;
+
+    @Autowired
+    private IDishRepository dishRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        entityManager.persist(new RestaurantEntity(restaurantId, "Restaurant " + restaurantId, ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE),
+                "Street 1", "+573000000000", "https://logo.png", UUID.randomUUID()));
+        entityManager.flush();
+    }
+
+    @Test
+    void saveOrderPersistsNewEntity() {
+        OrderEntity order = OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .clientId(UUID.randomUUID())
+                .date(LocalDateTime.now())
+                .status(OrderStatusEntity.PENDING)
+                .restaurantId(restaurantId)
+                .orderDishes(new ArrayList<>())
+                .build();
+        assertTrue(order.isNew());
+
+        OrderEntity saved = orderRepository.saveAndFlush(order);
+
+        assertSame(order, saved);
+        assertFalse(saved.isNew());
+    }
+
+    @Test
+    void saveAllDishesPersistsNewEntities() {
+        List<DishEntity> dishes = List.of(dish("Soup"), dish("Salad"), dish("Pasta"));
+
+        List<DishEntity> saved = dishRepository.saveAll(dishes);
+        dishRepository.flush();
+
+        for (int i = 0; i < dishes.size(); i++) {
+            assertSame(dishes.get(i), saved.get(i));
+            assertFalse(saved.get(i).isNew());
+        }
+    }
+
+    @Test
+    void loadedEntityIsNotNew() {
+        DishEntity dish = dishRepository.saveAndFlush(dish("Soup"));
+        entityManager.clear();
+
+        DishEntity loaded = dishRepository.findById(dish.getId()).orElseThrow();
+
+        assertFalse(loaded.isNew());
+    }
+
+    private DishEntity dish(String name) {
+        DishEntity dish = new DishEntity();
+        dish.setId(UUID.randomUUID());
+        dish.setName(name);
+        dish.setPrice(1000);
+        dish.setDescription("Description");
+        dish.setImageUrl("https://dish.png");
+        dish.setCategoryId(1);
+        dish.setRestaurantId(restaurantId);
+        dish.setActive(true);
+        dish.setVersion(1);
+        dish.setUpdatedAt(LocalDateTime.now());
+        return dish;
+    }
+}
@@ -0,0 +1,205 @@
+package com.pragma.plazoleta.infrastructure.output.jpa.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the migrations against MySQL, fills the tables with generated rows and checks that the
+ * plan of every repository query reads through an index instead of scanning a whole table.
+ * The SQL mirrors what Hibernate generates for each repository method. Upserts are not checked
+ * for their INSERT row, which always finds its conflict through the primary key.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final int RESTAURANTS = 2_000;
+    private static final int DISHES = 20_000;
+    private static final int ORDERS = 50_000;
+    private static final int QUEUE_ENTRIES = 10_000;
+
+    private static final String RESTAURANT = id('a', 7);
+    private static final String DISH = id('b', 7);
+    private static final String ORDER = id('c', 7);
+    private static final String CLIENT = id('d', 7);
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + ORDERS);
+            statement.execute(seed("restaurants (id, name, address, owner_id, phone, logo_url, nit)", RESTAURANTS,
+                    idColumn('a', "n") + ", CONCAT('Restaurant ', n), 'Street 1', " + idColumn('e', "n")
+                            + ", '+573000000000', 'https://logo.png', 1000000 + n"));
+            statement.execute(seed("dishes (id, name, price, description, image_url, category_id, restaurant_id, active)", DISHES,
+                    idColumn('b', "n") + ", CONCAT('Dish ', n), 1000, 'Description', 'https://dish.png', 1 + n % 5, "
+                            + idColumn('a', "n % " + RESTAURANTS) + ", n % 10 <> 0"));
+            statement.execute(seed("menu_versions (restaurant_id, version)", RESTAURANTS,
+                    idColumn('a', "n") + ", " + DISHES / RESTAURANTS));
+            statement.execute(seed("orders (id, client_id, date, status, chef_id, restaurant_id)", ORDERS,
+                    idColumn('c', "n") + ", " + idColumn('d', "n") + ", TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, "
+                            + "ELT(1 + n % 5, 'PENDING', 'IN_PREPARATION', 'READY', 'DELIVERED', 'CANCELLED'), NULL, "
+                            + idColumn('a', "n % " + RESTAURANTS)));
+            statement.execute(seed("orders_dishes (order_id, dish_id, quantity)", ORDERS,
+                    idColumn('c', "n") + ", " + idColumn('b', "n % " + DISHES) + ", 1"));
+            statement.execute(seed("notification_queue (order_id, phone_number, message, status, attempts, next_attempt_at, created_at)", QUEUE_ENTRIES,
+                    idColumn('c', "n") + ", '+573000000000', 'Ready', ELT(1 + n % 3, 'QUEUED', 'SENT', 'FAILED'), 0, "
+                            + "TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, TIMESTAMP('2024-01-01')"));
+            statement.execute(seed("trace_outbox (order_id, payload, attempts, next_attempt_at, created_at)", QUEUE_ENTRIES,
+                    idColumn('c', "n % 2000") + ", '{}', n % 3, TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, TIMESTAMP('2024-01-01')"));
+            statement.execute(seed("idempotency_keys (user_id, idempotency_key, response, created_at)", QUEUE_ENTRIES,
+                    idColumn('d', "n") + ", CONCAT('key-', n), '{}', TIMESTAMP('2024-01-01') + INTERVAL n MINUTE"));
+            statement.execute(seed("counters (counter_key, slot, counter_value)", QUEUE_ENTRIES,
+                    "CONCAT('orders:', n DIV 8), n % 8, 1"));
+            statement.execute("ANALYZE TABLE category, restaurants, dishes, menu_versions, orders, orders_dishes, "
+                    + "notification_queue, trace_outbox, idempotency_keys, counters");
+        }
+    }
+
+    @AfterAll
+    static void closeConnection() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        String activeStatuses = "('PENDING', 'IN_PREPARATION', 'READY')";
+        return Stream.of(
+                Arguments.of("ICategoryRepository.findByName",
+                        "SELECT * FROM category WHERE name = 'Pasta'"),
+                Arguments.of("IRestaurantRepository.existsByNit",
+                        "SELECT id FROM restaurants WHERE nit = 1000007 LIMIT 1"),
+                Arguments.of("IRestaurantRepository.existsByName",
+                        "SELECT id FROM restaurants WHERE name = 'Restaurant 7' LIMIT 1"),
+                Arguments.of("IRestaurantRepository.findAllOrderedByName",
+                        "SELECT * FROM restaurants ORDER BY name LIMIT 11 OFFSET 20"),
+                Arguments.of("IDishRepository.existsByNameAndRestaurantId",
+                        "SELECT id FROM dishes WHERE name = 'Dish 7' AND restaurant_id = " + RESTAURANT + " LIMIT 1"),
+                Arguments.of("IDishRepository.findNamesByRestaurantIdAndNameIn",
+                        "SELECT name FROM dishes WHERE restaurant_id = " + RESTAURANT + " AND name IN ('Dish 7', 'Dish 2007')"),
+                Arguments.of("IDishRepository.findByIdIn",
+                        "SELECT * FROM dishes WHERE id IN (" + DISH + ", " + id('b', 8) + ", " + id('b', 9) + ")"),
+                Arguments.of("IDishRepository.updatePriceAndDescription",
+                        "UPDATE dishes SET price = 2000, description = 'New', version = 7, updated_at = NOW(6) WHERE id = " + DISH),
+                Arguments.of("IDishRepository.updateActive",
+                        "UPDATE dishes SET active = FALSE, version = 8, updated_at = NOW(6) WHERE id = " + DISH + " AND active <> FALSE"),
+                Arguments.of("IDishRepository.findByRestaurantIdAndActiveIsTrue",
+                        "SELECT * FROM dishes WHERE restaurant_id = " + RESTAURANT + " AND active = TRUE ORDER BY name LIMIT 11 OFFSET 10"),
+                Arguments.of("IDishRepository.findByRestaurantIdAndCategoryIdAndActiveIsTrue",
+                        "SELECT * FROM dishes WHERE restaurant_id = " + RESTAURANT + " AND category_id = 3 AND active = TRUE ORDER BY name LIMIT 11"),
+                Arguments.of("IDishRepository.findByRestaurantIdAndVersionGreaterThan",
+                        "SELECT * FROM dishes WHERE restaurant_id = " + RESTAURANT + " AND version > 5 ORDER BY version LIMIT 101"),
+                Arguments.of("IMenuVersionRepository.increment",
+                        "INSERT INTO menu_versions (restaurant_id, version) VALUES (" + RESTAURANT + ", 1)"
+                                + " ON DUPLICATE KEY UPDATE version = version + 1"),
+                Arguments.of("IMenuVersionRepository.findVersionByRestaurantId",
+                        "SELECT version FROM menu_versions WHERE restaurant_id = " + RESTAURANT),
+                Arguments.of("IMenuVersionRepository.findById",
+                        "SELECT * FROM menu_versions WHERE restaurant_id = " + RESTAURANT),
+                Arguments.of("IOrderRepository.findHeaderById",
+                        "SELECT id, client_id, date, status, chef_id, restaurant_id, security_pin FROM orders WHERE id = " + ORDER),
+                Arguments.of("IOrderRepository.findByClientIdAndStatusIn",
+                        "SELECT * FROM orders WHERE client_id = " + CLIENT + " AND status IN " + activeStatuses),
+                Arguments.of("IOrderRepository.existsByClientIdAndStatusIn",
+                        "SELECT id FROM orders WHERE client_id = " + CLIENT + " AND status IN " + activeStatuses + " LIMIT 1"),
+                Arguments.of("IOrderRepository.findByStatusAndRestaurantId",
+                        "SELECT * FROM orders WHERE status = 'PENDING' AND restaurant_id = " + RESTAURANT + " ORDER BY date, id LIMIT 11 OFFSET 10"),
+                Arguments.of("IOrderRepository.findByStatusAndRestaurantIdOrderByDateAscIdAsc",
+                        "SELECT * FROM orders WHERE status = 'PENDING' AND restaurant_id = " + RESTAURANT + " ORDER BY date, id LIMIT 21"),
+                Arguments.of("IOrderRepository.findByStatusAndRestaurantIdAfter",
+                        "SELECT * FROM orders WHERE restaurant_id = " + RESTAURANT + " AND status = 'PENDING'"
+                                + " AND (date > '2024-01-10' OR (date = '2024-01-10' AND id > " + ORDER + "))"
+                                + " ORDER BY date, id LIMIT 21"),
+                Arguments.of("IOrderRepository.lockOldestPendingOrder",
+                        "SELECT * FROM orders WHERE restaurant_id = " + RESTAURANT + " AND status = 'PENDING' ORDER BY date, id LIMIT 1"),
+                Arguments.of("IOrderRepository.updateOrderStatus",
+                        "UPDATE orders SET status = 'READY' WHERE id = " + ORDER + " AND status = 'IN_PREPARATION'"),
+                Arguments.of("IOrderRepository.updateChefId",
+                        "UPDATE orders SET chef_id = " + CLIENT + ", status = 'IN_PREPARATION' WHERE id = " + ORDER + " AND status = 'PENDING'"),
+                Arguments.of("IOrderRepository.updateSecurityPin",
+                        "UPDATE orders SET security_pin = '123456', status = 'READY' WHERE id = " + ORDER + " AND status = 'IN_PREPARATION'"),
+                Arguments.of("IOrderDishRepository.findByOrderId",
+                        "SELECT * FROM orders_dishes WHERE order_id = " + ORDER),
+                Arguments.of("INotificationQueueRepository.findByOrderId",
+                        "SELECT * FROM notification_queue WHERE order_id = " + ORDER),
+                Arguments.of("INotificationQueueRepository.lockDueEntries",
+                        "SELECT * FROM notification_queue WHERE status = 'QUEUED' AND next_attempt_at <= '2024-01-02' ORDER BY id LIMIT 20"),
+                Arguments.of("INotificationQueueRepository.markSent",
+                        "UPDATE notification_queue SET status = 'SENT' WHERE id IN (1, 2, 3)"),
+                Arguments.of("ITraceOutboxRepository.lockDueEntries",
+                        "SELECT t.* FROM trace_outbox t WHERE t.attempts < 10 AND t.next_attempt_at <= '2024-01-02'"
+                                + " AND NOT EXISTS (SELECT 1 FROM trace_outbox p WHERE p.order_id = t.order_id AND p.id < t.id AND p.attempts < 10)"
+                                + " ORDER BY t.id LIMIT 50"),
+                Arguments.of("IIdempotencyKeyRepository.takeOver",
+                        "UPDATE idempotency_keys SET request_hash = NULL, response = NULL, created_at = NOW() WHERE user_id = " + CLIENT
+                                + " AND idempotency_key = 'key-7' AND (created_at < '2024-01-01' OR (response IS NULL AND created_at < '2024-01-02'))"),
+                Arguments.of("IIdempotencyKeyRepository.deleteCreatedBefore",
+                        "DELETE FROM idempotency_keys WHERE created_at < '2024-01-02'"),
+                Arguments.of("ICounterRepository.add",
+                        "INSERT INTO counters (counter_key, slot, counter_value) VALUES ('orders:7', 3, 1)"
+                                + " ON DUPLICATE KEY UPDATE counter_value = counter_value + 1"),
+                Arguments.of("ICounterRepository.sumByCounterKey",
+                        "SELECT COALESCE(SUM(counter_value), 0) FROM counters WHERE counter_key = 'orders:7'")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryDoesNotScanWholeTable(String repositoryMethod, String sql) throws SQLException {
+        List<String> scannedTables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+            while (plan.next()) {
+                if ("ALL".equals(plan.getString("type")) && !"INSERT".equals(plan.getString("select_type"))) {
+                    scannedTables.add(plan.getString("table"));
+                }
+            }
+        }
+        assertTrue(scannedTables.isEmpty(), repositoryMethod + " scans every row of " + scannedTables);
+    }
+
+    private static String seed(String target, int rows, String select) {
+        return "INSERT INTO " + target
+                + " WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < " + (rows - 1) + ")"
+                + " SELECT " + select + " FROM seq";
+    }
+
+    /**
+     * BINARY(16) id whose first hex digit tells the tables apart and whose last digits are n.
+     */
+    private static String idColumn(char prefix, String n) {
+        return "UNHEX(CONCAT('" + prefix + "', LPAD(HEX(" + n + "), 31, '0')))";
+    }
+
+    private static String id(char prefix, int n) {
+        return String.format("UNHEX('%c%031x')", prefix, n);
+    }
+}
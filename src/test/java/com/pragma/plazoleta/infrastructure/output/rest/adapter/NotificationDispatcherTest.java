@@ -0,0 +1,156 @@
+package com.pragma.plazoleta.infrastructure.output.rest.adapter;
+
+import com.pragma.plazoleta.application.dto.request.NotificationRequest;
+import com.pragma.plazoleta.infrastructure.exception.InfraestructureException;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationQueueEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.NotificationStatusEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.INotificationQueueRepository;
+import com.pragma.plazoleta.infrastructure.output.rest.client.NotificationFeignClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+    private static final int BATCH_SIZE = 20;
+    private static final int CONCURRENCY = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    @Mock
+    private INotificationQueueRepository notificationQueueRepository;
+
+    @Mock
+    private NotificationFeignClient notificationFeignClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OutboxFixtures fixtures = new OutboxFixtures();
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = dispatcher("service-token", MAX_ATTEMPTS);
+    }
+
+    private NotificationDispatcher dispatcher(String serviceToken, int maxAttempts) {
+        return new NotificationDispatcher(notificationQueueRepository, notificationFeignClient, Runnable::run,
+                transactionManager, BATCH_SIZE, CONCURRENCY, maxAttempts, OutboxFixtures.CONNECT_TIMEOUT_MILLIS,
+                OutboxFixtures.READ_TIMEOUT_MILLIS, INITIAL_BACKOFF, MAX_BACKOFF, serviceToken, fixtures.meterRegistry());
+    }
+
+    private NotificationQueueEntity entry(long id, int attempts) {
+        return NotificationQueueEntity.builder()
+                .id(id)
+                .orderId(UUID.randomUUID())
+                .phoneNumber("+573000000000")
+                .message("Your order is ready")
+                .status(NotificationStatusEntity.QUEUED)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void missingServiceTokenFailsAtStartup() {
+        assertThrows(InfraestructureException.class, () -> dispatcher("", MAX_ATTEMPTS));
+    }
+
+    @Test
+    void dispatchMarksDeliveredEntriesSent() {
+        when(notificationQueueRepository.lockDueEntries(any(), eq(BATCH_SIZE))).thenReturn(List.of(entry(1L, 0), entry(2L, 1)));
+
+        dispatcher.dispatch();
+
+        verify(notificationFeignClient, times(2)).sendNotification(eq("Bearer service-token"), any(NotificationRequest.class));
+        ArgumentCaptor<List<Long>> sent = ArgumentCaptor.forClass(List.class);
+        verify(notificationQueueRepository).markSent(sent.capture(), eq(NotificationStatusEntity.SENT), any());
+        assertEquals(List.of(1L, 2L), sent.getValue().stream().sorted().toList());
+        verify(notificationQueueRepository, never()).registerFailure(any(), any(), any(), any());
+    }
+
+    @Test
+    void dispatchLeasesBatchForOneClientTimeoutPerRound() {
+        when(notificationQueueRepository.lockDueEntries(any(), anyInt())).thenReturn(List.of(entry(1L, 0)));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        ArgumentCaptor<LocalDateTime> leasedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationQueueRepository).extendLease(eq(List.of(1L)), leasedUntil.capture());
+        OutboxFixtures.assertLease(OutboxFixtures.CLIENT_TIMEOUT.multipliedBy(BATCH_SIZE / CONCURRENCY + 1), before, leasedUntil.getValue());
+    }
+
+    @Test
+    void dispatchRequeuesFailedDeliveryWithBackoff() {
+        when(notificationQueueRepository.lockDueEntries(any(), anyInt())).thenReturn(List.of(entry(1L, 1)));
+        when(notificationFeignClient.sendNotification(any(), any())).thenThrow(new IllegalStateException("unavailable"));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationQueueRepository).registerFailure(eq(1L), eq(NotificationStatusEntity.QUEUED),
+                nextAttemptAt.capture(), contains("unavailable"));
+        assertFalse(nextAttemptAt.getValue().isBefore(before.plus(INITIAL_BACKOFF.multipliedBy(2))));
+        assertTrue(nextAttemptAt.getValue().isBefore(before.plus(INITIAL_BACKOFF.multipliedBy(3))));
+        verify(notificationQueueRepository, never()).markSent(anyList(), any(), any());
+        assertEquals(0, fixtures.count("notification.queue.failed"));
+    }
+
+    @Test
+    void dispatchCapsBackoff() {
+        dispatcher = dispatcher("service-token", 50);
+        when(notificationQueueRepository.lockDueEntries(any(), anyInt())).thenReturn(List.of(entry(1L, 10)));
+        when(notificationFeignClient.sendNotification(any(), any())).thenThrow(new IllegalStateException("unavailable"));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationQueueRepository).registerFailure(eq(1L), eq(NotificationStatusEntity.QUEUED),
+                nextAttemptAt.capture(), any());
+        assertFalse(nextAttemptAt.getValue().isBefore(before.plus(MAX_BACKOFF)));
+        assertTrue(nextAttemptAt.getValue().isBefore(before.plus(MAX_BACKOFF).plusSeconds(5)));
+    }
+
+    @Test
+    void dispatchMarksEntryFailedOnLastAttempt() {
+        when(notificationQueueRepository.lockDueEntries(any(), anyInt())).thenReturn(List.of(entry(1L, MAX_ATTEMPTS - 1)));
+        when(notificationFeignClient.sendNotification(any(), any())).thenThrow(new IllegalStateException("unavailable"));
+
+        dispatcher.dispatch();
+
+        verify(notificationQueueRepository).registerFailure(eq(1L), eq(NotificationStatusEntity.FAILED), any(), any());
+        assertEquals(1, fixtures.count("notification.queue.failed"));
+    }
+
+    @Test
+    void dispatchWithNothingDueSendsNothing() {
+        when(notificationQueueRepository.lockDueEntries(any(), anyInt())).thenReturn(List.of());
+
+        dispatcher.dispatch();
+
+        verifyNoInteractions(notificationFeignClient);
+        verify(notificationQueueRepository, never()).extendLease(any(), any());
+    }
+}
@@ -0,0 +1,35 @@
+package com.pragma.plazoleta.infrastructure.output.rest.adapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * What the trace outbox and notification queue tests share: a meter registry to read the
+ * dead-entry counters from and the client timeouts their leases are sized from.
+ */
+final class OutboxFixtures {
+    static final long CONNECT_TIMEOUT_MILLIS = 1000;
+    static final long READ_TIMEOUT_MILLIS = 4000;
+    static final Duration CLIENT_TIMEOUT = Duration.ofMillis(CONNECT_TIMEOUT_MILLIS + READ_TIMEOUT_MILLIS);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+
+    double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    static void assertLease(Duration expected, LocalDateTime claimedAfter, LocalDateTime leasedUntil) {
+        Duration lease = Duration.between(claimedAfter, leasedUntil);
+        assertTrue(lease.compareTo(expected) >= 0, "lease " + lease + " is shorter than " + expected);
+        assertTrue(lease.compareTo(expected.plusSeconds(1)) < 0, "lease " + lease + " is longer than " + expected);
+    }
+}
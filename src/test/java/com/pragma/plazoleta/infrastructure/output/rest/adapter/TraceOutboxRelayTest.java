@@ -0,0 +1,157 @@
+package com.pragma.plazoleta.infrastructure.output.rest.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazoleta.application.dto.request.TraceabilityRequest;
+import com.pragma.plazoleta.domain.spi.IUserRoleValidationPort;
+import com.pragma.plazoleta.infrastructure.exception.InfraestructureException;
+import com.pragma.plazoleta.infrastructure.output.jpa.entity.TraceOutboxEntity;
+import com.pragma.plazoleta.infrastructure.output.jpa.repository.ITraceOutboxRepository;
+import com.pragma.plazoleta.infrastructure.output.rest.ForwardedAuthorization;
+import com.pragma.plazoleta.infrastructure.output.rest.client.TraceFeignClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TraceOutboxRelayTest {
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    @Mock
+    private ITraceOutboxRepository traceOutboxRepository;
+
+    @Mock
+    private TraceFeignClient traceFeignClient;
+
+    @Mock
+    private IUserRoleValidationPort userRoleValidationPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final OutboxFixtures fixtures = new OutboxFixtures();
+    private TraceOutboxRelay relay;
+    private UUID clientId;
+
+    @BeforeEach
+    void setUp() {
+        relay = relay("trace-token", "user-token");
+        clientId = UUID.randomUUID();
+    }
+
+    private TraceOutboxRelay relay(String traceToken, String userToken) {
+        return new TraceOutboxRelay(traceOutboxRepository, traceFeignClient, userRoleValidationPort, objectMapper,
+                transactionManager, BATCH_SIZE, MAX_ATTEMPTS, OutboxFixtures.CONNECT_TIMEOUT_MILLIS,
+                OutboxFixtures.READ_TIMEOUT_MILLIS, INITIAL_BACKOFF, MAX_BACKOFF, traceToken, userToken, fixtures.meterRegistry());
+    }
+
+    private TraceOutboxEntity entry(String clientEmail, int attempts) throws Exception {
+        TraceabilityRequest request = TraceabilityRequest.builder()
+                .orderId(UUID.randomUUID().toString())
+                .clientId(clientId.toString())
+                .clientEmail(clientEmail)
+                .date(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .previousState("PENDING")
+                .newState("IN_PREPARATION")
+                .employeeId(UUID.randomUUID().toString())
+                .employeeEmail("employee@example.com")
+                .restaurantId(UUID.randomUUID().toString())
+                .build();
+        return TraceOutboxEntity.builder()
+                .id(1L)
+                .orderId(UUID.fromString(request.getOrderId()))
+                .payload(objectMapper.writeValueAsString(request))
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void missingServiceTokensFailAtStartup() {
+        assertThrows(InfraestructureException.class, () -> relay("", "user-token"));
+        assertThrows(InfraestructureException.class, () -> relay("trace-token", ""));
+    }
+
+    @Test
+    void relayResolvesMissingClientEmailWithServiceToken() throws Exception {
+        when(traceOutboxRepository.lockDueEntries(any(), eq(MAX_ATTEMPTS), eq(BATCH_SIZE))).thenReturn(List.of(entry(null, 0)));
+        when(userRoleValidationPort.getEmailByUserId(clientId)).thenAnswer(invocation -> {
+            assertEquals("Bearer user-token", ForwardedAuthorization.current());
+            return Optional.of("client@example.com");
+        });
+
+        relay.relay();
+
+        ArgumentCaptor<TraceabilityRequest> sent = ArgumentCaptor.forClass(TraceabilityRequest.class);
+        verify(traceFeignClient).createTrace(eq("Bearer trace-token"), sent.capture());
+        assertEquals("client@example.com", sent.getValue().getClientEmail());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0), sent.getValue().getDate());
+        assertNull(ForwardedAuthorization.get());
+        verify(traceOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void relayLeasesBatchForTwoClientTimeoutsPerEntry() throws Exception {
+        when(traceOutboxRepository.lockDueEntries(any(), anyInt(), anyInt())).thenReturn(List.of(entry("client@example.com", 0)));
+        LocalDateTime before = LocalDateTime.now();
+
+        relay.relay();
+
+        ArgumentCaptor<LocalDateTime> leasedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(traceOutboxRepository).extendLease(eq(List.of(1L)), leasedUntil.capture());
+        OutboxFixtures.assertLease(OutboxFixtures.CLIENT_TIMEOUT.multipliedBy(2L * BATCH_SIZE + 1), before, leasedUntil.getValue());
+    }
+
+    @Test
+    void relayKeepsStoredClientEmail() throws Exception {
+        when(traceOutboxRepository.lockDueEntries(any(), anyInt(), anyInt())).thenReturn(List.of(entry("client@example.com", 0)));
+
+        relay.relay();
+
+        verify(traceFeignClient).createTrace(eq("Bearer trace-token"), any(TraceabilityRequest.class));
+        verifyNoInteractions(userRoleValidationPort);
+    }
+
+    @Test
+    void relayRetriesWhenClientEmailCannotBeResolved() throws Exception {
+        when(traceOutboxRepository.lockDueEntries(any(), anyInt(), anyInt())).thenReturn(List.of(entry(null, 0)));
+        when(userRoleValidationPort.getEmailByUserId(clientId)).thenReturn(Optional.empty());
+
+        relay.relay();
+
+        verify(traceOutboxRepository).registerFailure(eq(1L), any(), any());
+        verifyNoInteractions(traceFeignClient);
+        assertEquals(0, fixtures.count("trace.outbox.dead"));
+    }
+
+    @Test
+    void relayCountsEntryThatUsedUpItsAttempts() throws Exception {
+        when(traceOutboxRepository.lockDueEntries(any(), anyInt(), anyInt())).thenReturn(List.of(entry("client@example.com", MAX_ATTEMPTS - 1)));
+        when(traceFeignClient.createTrace(any(), any())).thenThrow(new IllegalStateException("unavailable"));
+
+        relay.relay();
+
+        verify(traceOutboxRepository).registerFailure(eq(1L), any(), contains("unavailable"));
+        assertEquals(1, fixtures.count("trace.outbox.dead"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.pragma.plazoleta.infrastructure.output.rest.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.plazoleta.application.dto.response.RoleResponse;
+import com.pragma.plazoleta.application.dto.response.UserResponse;
+import com.pragma.plazoleta.infrastructure.output.rest.client.UserFeignClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleRestClientAdapterTest {
+    @Mock
+    private UserFeignClient userFeignClient;
+
+    private Cache<String, UserResponse> userProfileCache;
+    private Cache<UUID, String> employeeRestaurantCache;
+    private UserRoleRestClientAdapter adapter;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache = Caffeine.newBuilder().build();
+        Cache<String, RoleResponse> roleCache = Caffeine.newBuilder().build();
+        employeeRestaurantCache = Caffeine.newBuilder().build();
+        adapter = new UserRoleRestClientAdapter(userFeignClient, userProfileCache, roleCache, employeeRestaurantCache);
+        userId = UUID.randomUUID();
+    }
+
+    private UserResponse user(String restaurantId) {
+        UserResponse user = new UserResponse();
+        user.setId(userId.toString());
+        user.setRestaurantId(restaurantId);
+        return user;
+    }
+
+    @Test
+    void membershipMissReloadsFromUserServiceInsteadOfCachedProfile() {
+        userProfileCache.put(userId.toString(), user("old-restaurant"));
+        UserResponse current = user("new-restaurant");
+        when(userFeignClient.getUserById(userId.toString())).thenReturn(current);
+
+        assertEquals(Optional.of("new-restaurant"), adapter.getRestaurantIdByUserId(userId));
+
+        assertSame(current, userProfileCache.getIfPresent(userId.toString()));
+    }
+
+    @Test
+    void membershipHitDoesNotCallUserService() {
+        employeeRestaurantCache.put(userId, "restaurant");
+
+        assertEquals(Optional.of("restaurant"), adapter.getRestaurantIdByUserId(userId));
+
+        verifyNoInteractions(userFeignClient);
+    }
+
+    @Test
+    void membershipLookupFailureIsNotCached() {
+        when(userFeignClient.getUserById(userId.toString()))
+                .thenThrow(new IllegalStateException("ms-user unavailable"))
+                .thenReturn(user("restaurant"));
+
+        assertTrue(adapter.getRestaurantIdByUserId(userId).isEmpty());
+        assertEquals(Optional.of("restaurant"), adapter.getRestaurantIdByUserId(userId));
+    }
+}